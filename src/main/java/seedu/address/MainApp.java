@@ -23,8 +23,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.CheckpointedAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -43,6 +47,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundAddressBookSaver saver;
     protected Model model;
     protected Config config;
 
@@ -57,16 +62,47 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundAddressBookSaver(storage, userPrefs.getSaveDelayMillis());
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} that saves to the address book file path in {@code userPrefs}, in the
+     * format chosen there, and keeps the number of checkpoints chosen there. Data files in other formats are converted
+     * when they are next saved.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        AddressBookStorage addressBookStorage = initFormatStorage(userPrefs);
+        if (userPrefs.getCheckpointCount() == 0) {
+            return addressBookStorage;
+        }
+        logger.info("Keeping " + userPrefs.getCheckpointCount() + " checkpoints of the data file");
+        return new CheckpointedAddressBookStorage(addressBookStorage, userPrefs.getCheckpointCount(),
+                CheckpointedAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL_MILLIS);
+    }
+
+    private AddressBookStorage initFormatStorage(ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file format : " + userPrefs.getAddressBookFormat()
+                + (userPrefs.isAddressBookCompressed() ? " (compressed)" : ""));
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.isAddressBookCompressed());
+        case SHARDED:
+            return new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath());
+        default:
+            return new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    JournaledAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL, userPrefs.isAddressBookCompressed());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +213,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        saver.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,69 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents an inclusive range of indexes, from a start {@code Index} to an end {@code Index} that is not before it.
+ * A single index is a range whose start and end are the same.
+ */
+public class IndexRange {
+    private final Index start;
+    private final Index end;
+
+    /**
+     * Creates the range of indexes from {@code start} to {@code end}, inclusive.
+     * {@code end} must not be before {@code start}.
+     */
+    public IndexRange(Index start, Index end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        checkArgument(start.getZeroBased() <= end.getZeroBased(), "The end of a range must not be before its start");
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Creates the range holding only {@code index}.
+     */
+    public static IndexRange of(Index index) {
+        return new IndexRange(index, index);
+    }
+
+    public Index getStart() {
+        return start;
+    }
+
+    public Index getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexRange)) {
+            return false;
+        }
+
+        IndexRange otherRange = (IndexRange) other;
+        return start.equals(otherRange.start) && end.equals(otherRange.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start.getZeroBased(), end.getZeroBased());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("start", start).add("end", end).toString();
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads records of comma-separated values one at a time, as described in RFC 4180.
+ * Fields may be quoted with double quotes, in which case they may hold commas, line breaks and doubled double quotes.
+ * Lines may end with {@code \n}, {@code \r\n} or {@code \r}, and blank lines are skipped. A byte order mark at the
+ * start, as written by some spreadsheet programs, is skipped.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Line %d: quoted field is not closed.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "Line %d: unexpected text after a quoted field.";
+
+    private static final int END = -1;
+    private static final int BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private int lineNumber = 1;
+    private int recordLineNumber;
+    private int peeked = END - 1;
+    private boolean hasStarted;
+
+    /**
+     * Creates a {@code CsvReader} of the records in {@code reader}, which should be buffered.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     *
+     * @throws IOException if the records could not be read, or are malformed.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == END) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            if (c == '"' && field.length() == 0) {
+                c = readQuotedField(field);
+            } else {
+                while (c != ',' && c != '\n' && c != '\r' && c != END) {
+                    field.append((char) c);
+                    c = read();
+                }
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (c != ',') {
+                return fields;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line number, counting from 1, on which the record last read by {@link #readRecord()} starts.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Appends the value of the quoted field whose opening quote was just read to {@code field}.
+     *
+     * @return the character after the closing quote.
+     */
+    private int readQuotedField(StringBuilder field) throws IOException {
+        int startLineNumber = lineNumber;
+        while (true) {
+            int c = read();
+            if (c == END) {
+                throw new IOException(String.format(MESSAGE_UNTERMINATED_QUOTE, startLineNumber));
+            }
+            if (c != '"') {
+                field.append((char) c);
+                continue;
+            }
+
+            int next = read();
+            if (next == '"') {
+                field.append('"');
+                continue;
+            }
+            if (next != ',' && next != '\n' && next != '\r' && next != END) {
+                throw new IOException(String.format(MESSAGE_TEXT_AFTER_QUOTE, lineNumber));
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Returns the next character, with {@code \r\n} read as {@code \n}, and a byte order mark at the start skipped.
+     */
+    private int read() throws IOException {
+        int c;
+        if (peeked >= END) {
+            c = peeked;
+            peeked = END - 1;
+        } else {
+            c = reader.read();
+        }
+        if (!hasStarted) {
+            hasStarted = true;
+            if (c == BYTE_ORDER_MARK) {
+                c = reader.read();
+            }
+        }
+
+        if (c == '\r') {
+            int next = reader.read();
+            if (next == '\n') {
+                c = '\n';
+            } else {
+                peeked = next;
+            }
+        }
+        if (c == '\n' || c == '\r') {
+            lineNumber++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type, keyed by the exact string each value is made from.
+ * Values are held weakly, so a value that is no longer used elsewhere can be garbage collected and is dropped from
+ * the pool.
+ *
+ * @param <T> the type of the pooled values.
+ */
+public class Interner<T> {
+
+    private final Map<String, KeyedReference<T>> pool = new HashMap<>();
+    private final ReferenceQueue<T> staleReferences = new ReferenceQueue<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates an empty pool that makes new values with the given {@code factory}.
+     */
+    public Interner(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical value made from {@code key}, making it with the factory if there is none.
+     * Any exception thrown by the factory is propagated, and nothing is pooled.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        expungeStaleReferences();
+
+        KeyedReference<T> reference = pool.get(key);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            pool.put(key, new KeyedReference<>(key, value, staleReferences));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the pool, including values not yet found to be garbage collected.
+     */
+    public synchronized int size() {
+        expungeStaleReferences();
+        return pool.size();
+    }
+
+    private void expungeStaleReferences() {
+        Reference<? extends T> stale;
+        while ((stale = staleReferences.poll()) != null) {
+            KeyedReference<?> staleKeyed = (KeyedReference<?>) stale;
+            pool.remove(staleKeyed.key, staleKeyed);
+        }
+    }
+
+    /**
+     * A weak reference that remembers the key it is pooled under.
+     */
+    private static class KeyedReference<T> extends WeakReference<T> {
+        private final String key;
+
+        private KeyedReference(String key, T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@code InputStream} that reads a file through read-only memory mappings of it, so that its bytes are decoded
+ * straight from the page cache instead of being copied into the heap first.
+ * Files larger than a single mapping can hold are mapped in consecutive regions.
+ *
+ * A mapping is only released once it is garbage collected, even after the stream is closed. Check
+ * {@link #canReplaceMappedFiles()} before mapping a file that may be replaced or deleted soon after it is read.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    private static final int MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+    private MappedByteBuffer[] regions;
+    private int regionIndex;
+    private int markedRegionIndex;
+
+    /**
+     * Maps the whole of the file at {@code file}. The file need not stay open once it is mapped.
+     */
+    public MappedFileInputStream(Path file) throws IOException {
+        requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int regionCount = (int) Math.max(1, (size + MAX_REGION_SIZE - 1) / MAX_REGION_SIZE);
+            regions = new MappedByteBuffer[regionCount];
+            for (int i = 0; i < regionCount; i++) {
+                long position = (long) i * MAX_REGION_SIZE;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(MAX_REGION_SIZE, size - position));
+            }
+        }
+        regions[0].mark();
+    }
+
+    /**
+     * Returns true if a file can be replaced or deleted while it is still mapped. This is not so on Windows, where a
+     * mapped file stays locked until its mapping is garbage collected, so a save that replaces it would fail.
+     */
+    public static boolean canReplaceMappedFiles() {
+        return !System.getProperty("os.name", "").startsWith("Windows");
+    }
+
+    @Override
+    public int read() throws IOException {
+        MappedByteBuffer region = currentRegion();
+        return region == null ? -1 : region.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        MappedByteBuffer region = currentRegion();
+        if (region == null) {
+            return -1;
+        }
+        int count = Math.min(len, region.remaining());
+        region.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        MappedByteBuffer region;
+        while (skipped < n && (region = currentRegion()) != null) {
+            int count = (int) Math.min(n - skipped, region.remaining());
+            region.position(region.position() + count);
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        MappedByteBuffer region = currentRegion();
+        return region == null ? 0 : region.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        if (regions == null) {
+            return;
+        }
+        markedRegionIndex = regionIndex;
+        regions[regionIndex].mark();
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        ensureOpen();
+        for (int i = markedRegionIndex + 1; i <= regionIndex; i++) {
+            regions[i].rewind();
+        }
+        regionIndex = markedRegionIndex;
+        regions[regionIndex].reset();
+    }
+
+    /**
+     * Drops the mappings of the file, so that they can be garbage collected as soon as possible.
+     */
+    @Override
+    public void close() {
+        regions = null;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (regions == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Returns the region holding the next byte, or null if the whole file has been read.
+     *
+     * @throws IOException if the stream is closed.
+     */
+    private MappedByteBuffer currentRegion() throws IOException {
+        ensureOpen();
+        while (!regions[regionIndex].hasRemaining()) {
+            if (regionIndex == regions.length - 1) {
+                return null;
+            }
+            regionIndex++;
+        }
+        return regions[regionIndex];
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,7 +18,9 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.exceptions.AttendanceLoadingException;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,19 +32,40 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Never the generation of an address book, as generations only count up from zero. */
+    private static final long NO_SAVED_GENERATION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundAddressBookSaver saver;
+    private volatile Consumer<String> saveErrorHandler = unused -> {};
+    /** The generation of the address book when it was last saved. */
+    private volatile long savedAddressBookGeneration;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which hands the address book
+     * to {@code saver} to be saved in the background, if {@code saver} is not null.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
+        savedAddressBookGeneration = model.getAddressBookGeneration();
+        if (saver != null) {
+            saver.setFailureHandler(this::handleBackgroundSaveFailure);
+        }
     }
 
     @Override
@@ -48,17 +74,63 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (AttendanceLoadingException ale) {
+            logger.warning(ale.getMessage() + ": " + ale.getCause());
+            throw new CommandException(String.format(Messages.MESSAGE_ATTENDANCE_NOT_LOADED, ale.getEventName()),
+                    ale);
+        }
+
+        saveAddressBookIfChanged();
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book if it changed since it was last saved, so that commands that only read it do no I/O.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        long generation = model.getAddressBookGeneration();
+        if (generation == savedAddressBookGeneration) {
+            return;
+        }
+
+        if (saver != null) {
+            savedAddressBookGeneration = generation;
+            saver.save(model.getAddressBookSnapshot());
+            return;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        } catch (AttendanceLoadingException ale) {
+            throw new CommandException(getSaveErrorMessage(new IOException(ale.getMessage(), ale)), ale);
         }
+        savedAddressBookGeneration = generation;
+    }
 
-        return commandResult;
+    /**
+     * Reports a failed background save, and makes the next command save the address book again.
+     */
+    private void handleBackgroundSaveFailure(IOException ioe) {
+        savedAddressBookGeneration = NO_SAVED_GENERATION;
+        saveErrorHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
     }
 
     @Override
@@ -19,7 +19,7 @@ public class Messages {
             Comment: comment INDEX c/COMMENT
             Find: find [n/ NAME_KEYWORDS] [id/ STUDENT_IDS]
             Show group: show GROUP_INDEX
-            Delete: delete INDEX
+            Delete: delete INDEX [INDEX or START-END]... or delete [n/ NAME_KEYWORDS] [id/ STUDENT_IDS]
             List: list
             Create attendance event: createattn e/EVENT_NAME
             Delete attendance event: deleteevent e/EVENT_NAME
@@ -27,6 +27,8 @@ public class Messages {
             Mark attendance: mark e/EVENT_NAME i/INDEX [i/INDEX...]
             Unmark attendance: unmark e/EVENT_NAME i/INDEX [i/INDEX...]
             List attendance: listattn e/EVENT_NAME s/STATUS
+            Import students: import FILE_PATH
+            Export students: export FILE_PATH
             Clear: clear
             Help: help
             Exit: exit
@@ -66,6 +68,8 @@ public class Messages {
             + " characters with letters at the start and end, and digits in between (e.g., 'A1234567E').";
     public static final String MESSAGE_NO_STUDENTS_FOUND = "No students found matching the criteria.";
     public static final String MESSAGE_EVENT_NOT_FOUND = "Attendance event '%1$s' not found.";
+    public static final String MESSAGE_ATTENDANCE_NOT_LOADED = "Could not read the attendance of event '%1$s' from "
+            + "the data files, which may be missing or corrupt. The command was not completed.";
     public static final String MESSAGE_DUPLICATE_GROUPS = "There are duplicate groups. "
             + "Group names are treated as case insensitive and with multiple spaces considered equivalent.";
     public static final String MESSAGE_INVALID_PREFIX = "If you are trying to use a prefix (eg. 'n/'), ensure there "
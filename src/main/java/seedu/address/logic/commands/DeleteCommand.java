@@ -2,9 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,48 +17,104 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Deletes a person identified using it's displayed index from the address book.
+ * Deletes the persons identified using their displayed indexes, or all persons matching a predicate, from the
+ * address book. The persons are deleted together in one batch, so the address book changes and is saved only once.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE =
-            "Ensure the Parameter: INDEX is a single positive integer without any prefix signs)\n"
-            + "Format Example: " + COMMAND_WORD + " INDEX e.g delete 1\n"
-            + "This will delete a single person identified by the index number used in the displayed person list.\n";
+            "Ensure each Parameter: INDEX is a positive integer without any prefix signs, "
+            + "or a range START-END of them)\n"
+            + "Format Example: " + COMMAND_WORD + " INDEX [INDEX or START-END]... e.g delete 3 5 10-40\n"
+            + "This will delete the persons identified by the index numbers used in the displayed person list.\n"
+            + "Alternatively: " + COMMAND_WORD + " [n/ NAME_KEYWORDS] [id/ STUDENT_IDS]\n"
+            + "This will delete every person that the same find command would list.\n";
 
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "You have deleted a person: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "You have deleted %1$d persons:\n%2$s";
 
-    private final Index targetIndex;
+    /** The ranges of displayed indexes to delete, or null if the persons to delete are matched by a predicate. */
+    private final List<IndexRange> targetRanges;
+    private final Predicate<Person> predicate;
 
+    /**
+     * Creates a DeleteCommand to delete the person at the displayed {@code targetIndex}.
+     */
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(IndexRange.of(targetIndex)));
+    }
+
+    /**
+     * Creates a DeleteCommand to delete the persons at the displayed indexes in any of {@code targetRanges}.
+     */
+    public DeleteCommand(List<IndexRange> targetRanges) {
+        requireNonNull(targetRanges);
+        this.targetRanges = List.copyOf(targetRanges);
+        this.predicate = null;
+    }
+
+    /**
+     * Creates a DeleteCommand to delete every person in the address book matching {@code predicate}.
+     */
+    public DeleteCommand(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.targetRanges = null;
+        this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        List<Person> personsToDelete = predicate == null ? getPersonsAtTargets(model) : getMatchingPersons(model);
+
+        model.applyBatch(batch -> personsToDelete.forEach(batch::deletePerson));
+
+        if (personsToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
+                    Messages.format(personsToDelete.get(0))));
+        }
+        String deletedPersons = personsToDelete.stream()
+                .map(Messages::format)
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size(),
+                deletedPersons));
+    }
+
+    private List<Person> getPersonsAtTargets(Model model) throws CommandException {
         List<Person> lastShownList = model.getFilteredPersonList();
 
         assert lastShownList != null;
 
-        // validates list and index
+        // validates list and indexes
         if (lastShownList.isEmpty()) {
             throw new CommandException(Messages.MESSAGE_DELETE_EMPTY_ERROR);
         }
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INDEX_UPPERBOUND_ERROR);
+        BitSet targets = new BitSet(lastShownList.size());
+        for (IndexRange range : targetRanges) {
+            if (range.getEnd().getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INDEX_UPPERBOUND_ERROR);
+            }
+            targets.set(range.getStart().getZeroBased(), range.getEnd().getZeroBased() + 1);
         }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-
-        assert personToDelete != null;
+        return targets.stream()
+                .mapToObj(lastShownList::get)
+                .collect(Collectors.toList());
+    }
 
-        model.deletePerson(personToDelete);
+    private List<Person> getMatchingPersons(Model model) throws CommandException {
+        Predicate<Person> resolvedPredicate = FindCommand.resolveNameKeywords(predicate, model);
+        List<Person> matchingPersons = model.getAddressBook().getPersonList().stream()
+                .filter(resolvedPredicate)
+                .collect(Collectors.toList());
 
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+        if (matchingPersons.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_STUDENTS_FOUND);
+        }
+        return matchingPersons;
     }
 
     @Override
@@ -68,13 +129,20 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return Objects.equals(targetRanges, otherDeleteCommand.targetRanges)
+                && Objects.equals(predicate, otherDeleteCommand.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(targetRanges, predicate);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetRanges", targetRanges)
+                .add("predicate", predicate)
                 .toString();
     }
 }
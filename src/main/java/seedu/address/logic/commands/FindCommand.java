@@ -2,11 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.CompositePredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -32,7 +35,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(resolveNameKeywords(predicate, model));
         int matchedStudents = model.getFilteredPersonList().size();
 
         if (matchedStudents == 0) {
@@ -41,6 +44,28 @@ public class FindCommand extends Command {
         return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchedStudents));
     }
 
+    /**
+     * Returns a predicate equivalent to {@code predicate}, in which every {@code NameContainsKeywordsPredicate}
+     * is answered from the name index of {@code model} instead of by splitting each person's name.
+     */
+    static Predicate<Person> resolveNameKeywords(Predicate<Person> predicate, Model model) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            Set<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+            Set<Person> matches = model.getPersonsWithNameKeywords(keywords);
+            return matches::contains;
+        }
+
+        if (predicate instanceof CompositePredicate) {
+            CompositePredicate resolved = new CompositePredicate();
+            for (Predicate<Person> component : ((CompositePredicate) predicate).getPredicates()) {
+                resolved.addPredicate(resolveNameKeywords(component, model));
+            }
+            return resolved;
+        }
+
+        return predicate;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
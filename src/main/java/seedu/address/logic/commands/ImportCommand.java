@@ -0,0 +1,214 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Imports the students in a CSV file into the address book.
+ *
+ * The file is read in batches of {@link #BATCH_SIZE} rows, so only one batch of rows is held at a time, and the rows
+ * of each batch are validated in parallel. A row that is invalid, or whose student ID is already taken, is skipped
+ * and its line and reason are written to an error report beside the file. The valid rows are added to the address
+ * book together once the whole file is read, so its indexes are updated and it is saved only once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports the students in a CSV file. "
+            + "Its first row must name the columns, of which Name and Student ID are required: "
+            + String.join(", ", PersonCsvParser.HEADER) + ". Groups are separated by '"
+            + PersonCsvParser.GROUP_SEPARATOR + "'.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students from %2$s.";
+    public static final String MESSAGE_ROWS_SKIPPED = "\n%1$d rows could not be imported. See %2$s for the reasons.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist.";
+    public static final String MESSAGE_READ_ERROR = "Could not import %1$s: %2$s";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "A student with this Student ID already exists.";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+
+    public static final String ERROR_REPORT_SUFFIX = ".errors.txt";
+    static final int BATCH_SIZE = 1024;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the students in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the report of the rows of the CSV file at {@code filePath} that could not be imported.
+     */
+    public static Path getErrorReportPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ERROR_REPORT_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        Path reportPath = getErrorReportPath(filePath);
+        Importer importer;
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8));
+                ErrorReport report = new ErrorReport(reportPath)) {
+            importer = new Importer(model, PersonCsvParser.ofHeader(reader.readRecord()), report);
+            importer.importAll(reader);
+        } catch (ParseException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        model.addPersons(importer.toAdd);
+
+        String message = String.format(MESSAGE_SUCCESS, importer.toAdd.size(), filePath);
+        if (importer.report.errorCount > 0) {
+            message += String.format(MESSAGE_ROWS_SKIPPED, importer.report.errorCount, reportPath);
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * Collects the students to import from the rows of a CSV file, batch by batch.
+     */
+    private static class Importer {
+        private final Model model;
+        private final PersonCsvParser parser;
+        private final ErrorReport report;
+        private final List<Person> toAdd = new ArrayList<>();
+        private final Set<StudentId> importedIds = new HashSet<>();
+
+        Importer(Model model, PersonCsvParser parser, ErrorReport report) {
+            this.model = model;
+            this.parser = parser;
+            this.report = report;
+        }
+
+        void importAll(CsvReader reader) throws IOException {
+            List<List<String>> rows = new ArrayList<>(BATCH_SIZE);
+            List<Integer> lineNumbers = new ArrayList<>(BATCH_SIZE);
+            for (List<String> row = reader.readRecord(); row != null; row = reader.readRecord()) {
+                rows.add(row);
+                lineNumbers.add(reader.getRecordLineNumber());
+                if (rows.size() == BATCH_SIZE) {
+                    importBatch(rows, lineNumbers);
+                    rows.clear();
+                    lineNumbers.clear();
+                }
+            }
+            importBatch(rows, lineNumbers);
+        }
+
+        /**
+         * Parses {@code rows} in parallel, then keeps the valid rows in file order, so that of two rows with the same
+         * student ID the first is imported.
+         */
+        private void importBatch(List<List<String>> rows, List<Integer> lineNumbers) throws IOException {
+            Person[] persons = new Person[rows.size()];
+            String[] errors = new String[rows.size()];
+            IntStream.range(0, rows.size()).parallel().forEach(i -> {
+                try {
+                    persons[i] = parser.parse(rows.get(i));
+                } catch (ParseException pe) {
+                    errors[i] = pe.getMessage();
+                }
+            });
+
+            for (int i = 0; i < rows.size(); i++) {
+                if (errors[i] != null) {
+                    report.add(lineNumbers.get(i), errors[i]);
+                } else if (model.findByStudentId(persons[i].getStudentId()).isPresent()
+                        || !importedIds.add(persons[i].getStudentId())) {
+                    report.add(lineNumbers.get(i), MESSAGE_DUPLICATE_STUDENT);
+                } else {
+                    toAdd.add(persons[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * The report of the rows that could not be imported, which replaces any earlier report, and is created only once
+     * there is a row to report.
+     */
+    private static class ErrorReport implements Closeable {
+        private final Path reportPath;
+        private BufferedWriter writer;
+        private int errorCount;
+
+        ErrorReport(Path reportPath) throws IOException {
+            this.reportPath = reportPath;
+            Files.deleteIfExists(reportPath);
+        }
+
+        void add(int lineNumber, String message) throws IOException {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8);
+            }
+            writer.write(String.format(MESSAGE_ROW_ERROR, lineNumber, message.replaceAll("\\s*\\R\\s*", " ")));
+            writer.newLine();
+            errorCount++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -4,14 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_EVENT_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_NO_STUDENTS_FOUND;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.function.Predicate;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.attendance.AttendanceEvent;
-import seedu.address.model.person.Person;
+import seedu.address.model.attendance.AttendanceStatusPredicate;
 
 /**
  * Lists students based on attendance in a specific event.
@@ -44,25 +39,21 @@ public class ListAttendanceCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Optional<AttendanceEvent> optionalEvent = model.getAttendanceEvent(eventName);
-        if (!optionalEvent.isPresent()) {
+        if (!model.getAttendanceEvent(eventName).isPresent()) {
             throw new CommandException(String.format(MESSAGE_EVENT_NOT_FOUND, eventName));
         }
 
-        AttendanceEvent event = optionalEvent.get();
-
-        List<Person> students = model.getStudentsByAttendance(eventName, isPresent);
+        AttendanceStatusPredicate attendancePredicate = model.getAttendancePredicate(eventName, isPresent);
 
-        if (students.isEmpty()) {
+        if (attendancePredicate.getMatchCount() == 0) {
             throw new CommandException(MESSAGE_NO_STUDENTS_FOUND);
         }
 
         // Update the filtered person list in the model to show the students
-        Predicate<Person> attendancePredicate = students::contains;
         model.updateFilteredPersonList(attendancePredicate);
 
         String status = isPresent ? "present" : "absent";
-        String resultMessage = String.format(MESSAGE_SUCCESS, students.size(), status, eventName);
+        String resultMessage = String.format(MESSAGE_SUCCESS, attendancePredicate.getMatchCount(), status, eventName);
 
         return new CommandResult(resultMessage);
     }
@@ -2,11 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.group.GroupContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -31,7 +34,7 @@ public class ShowCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(resolveGroupKeywords(predicate, model));
         int matchedStudents = model.getFilteredPersonList().size();
 
         if (matchedStudents == 0) {
@@ -41,6 +44,20 @@ public class ShowCommand extends Command {
         return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchedStudents));
     }
 
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the group index of {@code model}
+     * instead of by matching the keywords against the groups of each person.
+     */
+    private static Predicate<Person> resolveGroupKeywords(Predicate<Person> predicate, Model model) {
+        if (!(predicate instanceof GroupContainsKeywordsPredicate)) {
+            return predicate;
+        }
+
+        List<String> keywords = ((GroupContainsKeywordsPredicate) predicate).getKeywords();
+        Set<Person> members = model.getPersonsInGroupsMatching(keywords);
+        return members::contains;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
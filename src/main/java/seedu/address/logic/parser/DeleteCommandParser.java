@@ -3,7 +3,10 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_DELETE_EMPTY_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.address.commons.core.index.Index;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -14,22 +17,31 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
 
     /**
      * Parses the given input arguments and creates a {@code DeleteCommand} object.
-     * The input is expected to contain a single index indicating which item to delete.
+     * The input is expected to contain either indexes and ranges of indexes, separated by spaces, indicating which
+     * items to delete, or the criteria of a find command matching the items to delete.
      *
-     * <p>If the input is empty or the index format is invalid, a {@code ParseException} is thrown.</p>
+     * <p>If the input is empty or any index or criterion is invalid, a {@code ParseException} is thrown.</p>
      *
-     * @param args The user input string containing the index to delete.
-     * @return A {@code DeleteCommand} object with the specified index.
-     * @throws ParseException If the input is empty or the index format is incorrect.
+     * @param args The user input string containing the indexes or criteria of the persons to delete.
+     * @return A {@code DeleteCommand} object for the specified persons.
+     * @throws ParseException If the input is empty or the format of an index or criterion is incorrect.
      */
     public DeleteCommand parse(String args) throws ParseException {
+        if (FindCommandParser.hasPredicatePrefixes(args)) {
+            // The criteria are reported in the format of this command, as a find command would report them
+            return new DeleteCommand(FindCommandParser.parsePredicate(args, DeleteCommand.MESSAGE_USAGE));
+        }
+
         try {
             if (args.isEmpty()) {
                 throw new ParseException(MESSAGE_DELETE_EMPTY_INDEX);
             }
-            Index index = ParserUtil.parseIndex(args);
 
-            return new DeleteCommand(index);
+            List<IndexRange> ranges = new ArrayList<>();
+            for (String range : args.trim().split("\\s+")) {
+                ranges.add(ParserUtil.parseIndexRange(range));
+            }
+            return new DeleteCommand(ranges);
         } catch (ParseException pe) {
             String errorMessage = String.format("%s \n%s",
                     pe.getMessage(),
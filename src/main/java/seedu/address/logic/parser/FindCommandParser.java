@@ -30,12 +30,32 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     @Override
     public FindCommand parse(String args) throws ParseException {
+        return new FindCommand(parsePredicate(args, FindCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Returns true if {@code args} holds any of the prefixes that {@link #parsePredicate(String, String)} accepts.
+     */
+    static boolean hasPredicatePrefixes(String args) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_STUDENT_ID);
+        return areAnyPrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_STUDENT_ID);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments, in the format of the FindCommand, into the predicate that
+     * matches the persons to find.
+     * @param args User input string.
+     * @param usage Usage message of the command being parsed, reported if the criteria are not in the expected format.
+     * @return Predicate combining the given criteria.
+     * @throws ParseException If the user input does not conform the expected format
+     */
+    static CompositePredicate parsePredicate(String args, String usage) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_STUDENT_ID);
 
         if (!areAnyPrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_STUDENT_ID)
                 || !argMultimap.getPreamble().isEmpty()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
         }
 
         // Check for duplicate prefixes using ArgumentMultimap's method
@@ -59,7 +79,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             combinedPredicate.addPredicate(new StudentIdMatchesPredicate(studentIdKeywords));
         }
 
-        return new FindCommand(combinedPredicate);
+        return combinedPredicate;
     }
 
 
@@ -72,19 +92,19 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @param prefixes         The prefixes to look for.
      * @return True if any of the prefixes are present, false otherwise.
      */
-    private boolean areAnyPrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+    private static boolean areAnyPrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
         return Arrays.stream(prefixes)
                 .anyMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
     }
 
-    private void validateName(String nameInput) throws ParseException {
+    private static void validateName(String nameInput) throws ParseException {
         String trimmedInput = nameInput.trim();
         if (trimmedInput.isEmpty()) {
             throw new ParseException(Messages.MESSAGE_NAME_CANNOT_BE_EMPTY);
         }
     }
 
-    private void validateStudentIds(List<String> studentIds) throws ParseException {
+    private static void validateStudentIds(List<String> studentIds) throws ParseException {
         for (String studentId : studentIds) {
             String cleanedId = studentId.trim().replaceAll(" ", "").toUpperCase();
             if (!cleanedId.matches("^[A-Z]\\d{7}[A-Z]$")) {
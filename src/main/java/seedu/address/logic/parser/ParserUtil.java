@@ -5,11 +5,15 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_PREFIX;
 import static seedu.address.logic.Messages.MESSAGE_MAXLEADINGZEROS;
 import static seedu.address.logic.Messages.MESSAGE_OVERFLOW_INDEX;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -27,6 +31,8 @@ import seedu.address.model.person.Year;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Error: Index is not a single non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "Error: The range %1$s ends before it starts.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "Error: '%1$s' is not a valid file path.";
 
     /**
      * Parses the given one-based index string into an {@code Index} object.
@@ -57,6 +63,27 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses the given one-based index or range of indexes, written as {@code START-END}, into an
+     * {@code IndexRange} object. Both ends of a range are included, and are validated as by {@link #parseIndex}.
+     *
+     * @throws ParseException If either index is invalid, or the range ends before it starts.
+     */
+    public static IndexRange parseIndexRange(String oneBasedRange) throws ParseException {
+        String trimmedRange = oneBasedRange.trim();
+        int separator = trimmedRange.indexOf('-');
+        if (separator <= 0) {
+            return IndexRange.of(parseIndex(trimmedRange));
+        }
+
+        Index start = parseIndex(trimmedRange.substring(0, separator));
+        Index end = parseIndex(trimmedRange.substring(separator + 1));
+        if (end.getZeroBased() < start.getZeroBased()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, trimmedRange));
+        }
+        return new IndexRange(start, end);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -205,7 +232,7 @@ public class ParserUtil {
         if (!Group.isValidGroupName(trimmedGroup)) {
             throw new ParseException(Group.MESSAGE_CONSTRAINTS);
         }
-        return new Group(trimmedGroup);
+        return Group.makeGroup(trimmedGroup);
     }
 
     /**
@@ -220,6 +247,22 @@ public class ParserUtil {
         return groupList;
     }
 
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is not a valid path on this platform.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        try {
+            return Paths.get(trimmedFilePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, trimmedFilePath), ipe);
+        }
+    }
+
     private static String removeLeadingZeroes(String trimmedYear) {
         Pattern yearFormat = Pattern.compile("(?<leadingZeroes>0+)(?<year>[1-9]\\d*)");
         Matcher matcher = yearFormat.matcher(trimmedYear);
@@ -0,0 +1,160 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.Group;
+import seedu.address.model.list.GroupList;
+import seedu.address.model.person.Comment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.Year;
+
+/**
+ * Parses rows of a CSV file of students into persons, with the same field parsers in {@link ParserUtil} as the
+ * {@code add} command. The first row of the file is a header naming the column of each field, in any order, matched
+ * ignoring case and spaces. The name and student ID columns are required; a missing optional column, or an empty
+ * value in it, leaves its field empty. Groups are separated by semicolons.
+ *
+ * A parser holds no state besides the column positions, so rows can be parsed on several threads at once.
+ */
+public class PersonCsvParser {
+
+    /** The columns of the fields, in the order in which they are exported. */
+    public static final List<String> HEADER =
+            List.of("Name", "Student ID", "NetID", "Major", "Year", "Groups", "Comment");
+    public static final String GROUP_SEPARATOR = ";";
+
+    public static final String MESSAGE_MISSING_HEADER = "The CSV file is empty. Its first row must name the columns: "
+            + String.join(", ", HEADER);
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV file has no %1$s column. Its first row must name the "
+            + "columns, of which Name and Student ID are required: " + String.join(", ", HEADER);
+    public static final String MESSAGE_UNKNOWN_COLUMN = "The CSV file has an unknown column '%1$s'. Supported columns: "
+            + String.join(", ", HEADER);
+    public static final String MESSAGE_DUPLICATE_COLUMN = "The CSV file has more than one %1$s column.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+
+    private static final int NAME = 0;
+    private static final int STUDENT_ID = 1;
+    private static final int NET_ID = 2;
+    private static final int MAJOR = 3;
+    private static final int YEAR = 4;
+    private static final int GROUPS = 5;
+    private static final int COMMENT = 6;
+    private static final int ABSENT = -1;
+
+    /** The position in each row of each column in {@link #HEADER}, or {@code ABSENT}. */
+    private final int[] positions;
+    private final int fieldCount;
+
+    private PersonCsvParser(int[] positions, int fieldCount) {
+        this.positions = positions;
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * Returns a parser of the rows that follow the header row {@code header}.
+     *
+     * @throws ParseException if {@code header} is null, or does not name the required columns.
+     */
+    public static PersonCsvParser ofHeader(List<String> header) throws ParseException {
+        if (header == null) {
+            throw new ParseException(MESSAGE_MISSING_HEADER);
+        }
+
+        int[] positions = new int[HEADER.size()];
+        Arrays.fill(positions, ABSENT);
+        for (int i = 0; i < header.size(); i++) {
+            int column = findColumn(header.get(i));
+            if (column == ABSENT) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, header.get(i).trim()));
+            }
+            if (positions[column] != ABSENT) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, HEADER.get(column)));
+            }
+            positions[column] = i;
+        }
+
+        for (int column : new int[] {NAME, STUDENT_ID}) {
+            if (positions[column] == ABSENT) {
+                throw new ParseException(String.format(MESSAGE_MISSING_COLUMN, HEADER.get(column)));
+            }
+        }
+        return new PersonCsvParser(positions, header.size());
+    }
+
+    /**
+     * Parses a row of fields into a {@code Person}.
+     *
+     * @throws ParseException if the row does not have a field for each column, or any field is invalid.
+     */
+    public Person parse(List<String> row) throws ParseException {
+        requireNonNull(row);
+        if (row.size() != fieldCount) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, fieldCount, row.size()));
+        }
+
+        Name name = ParserUtil.parseName(row.get(positions[NAME]));
+        StudentId studentId = ParserUtil.parseStudentId(row.get(positions[STUDENT_ID]));
+        Email email = ParserUtil.parseOptionalNetId(getOptional(row, NET_ID));
+        Major major = ParserUtil.parseOptionalMajor(getOptional(row, MAJOR));
+        Year year = ParserUtil.parseOptionalYear(getOptional(row, YEAR));
+        GroupList groups = parseGroups(getOptional(row, GROUPS));
+        Comment comment = new Comment(getOptional(row, COMMENT).trim());
+        return new Person(name, studentId, email, major, groups, year, comment);
+    }
+
+    /**
+     * Returns the fields of {@code person} in the order of {@link #HEADER}, which this parser parses back into an
+     * equal person.
+     */
+    public static List<String> toRow(Person person) {
+        requireNonNull(person);
+        String email = person.getEmail().value;
+        String netId = email.endsWith(Email.DOMAIN) ? email.substring(0, email.length() - Email.DOMAIN.length())
+                : email;
+        String groups = person.getGroups().stream()
+                .map(Group::getGroupName)
+                .collect(Collectors.joining(GROUP_SEPARATOR));
+        return List.of(person.getName().fullName, person.getStudentId().getValue(), netId, person.getMajor().value,
+                person.getYear().value, groups, person.getComment().value);
+    }
+
+    private String getOptional(List<String> row, int column) {
+        return positions[column] == ABSENT ? "" : row.get(positions[column]);
+    }
+
+    private static GroupList parseGroups(String groups) throws ParseException {
+        List<String> groupNames = new ArrayList<>();
+        for (String groupName : groups.split(GROUP_SEPARATOR)) {
+            if (!groupName.isBlank()) {
+                groupNames.add(groupName);
+            }
+        }
+        GroupList groupList = ParserUtil.parseGroups(groupNames);
+        if (groupList.size() < groupNames.size()) {
+            throw new ParseException(Messages.MESSAGE_DUPLICATE_GROUPS);
+        }
+        return groupList;
+    }
+
+    private static int findColumn(String name) {
+        String folded = name.replaceAll("[\\s_]", "").toLowerCase(Locale.ROOT);
+        for (int i = 0; i < HEADER.size(); i++) {
+            if (HEADER.get(i).replace(" ", "").toLowerCase(Locale.ROOT).equals(folded)) {
+                return i;
+            }
+        }
+        return ABSENT;
+    }
+}
@@ -1,26 +1,60 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.attendance.StudentOrdinals;
 import seedu.address.model.attendance.exceptions.DuplicateAttendanceEventException;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupIndex;
+import seedu.address.model.person.NameTokenIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Alongside its observable lists, the address book keeps persistent copies of its persons and attendance events, so
+ * that {@link #snapshot()} takes O(1) time. Attendance events are copied on their first change after a snapshot,
+ * so that the snapshot never sees later changes.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final GroupIndex groupIndex = new GroupIndex();
+    private final StudentOrdinals studentOrdinals = new StudentOrdinals();
     //private final List<AttendanceEvent> attendanceEvents;
     private final ObservableList<AttendanceEvent> attendanceEvents = FXCollections.observableArrayList();
+    private final ObservableList<AttendanceEvent> unmodifiableAttendanceEvents =
+            FXCollections.unmodifiableObservableList(attendanceEvents);
+    private final Map<String, AttendanceEvent> attendanceEventsByName = new HashMap<>();
+    private PersistentList<AttendanceEvent> persistentAttendanceEvents = PersistentList.empty();
+    /** Attendance events that no snapshot refers to, and so can be changed in place. */
+    private Set<AttendanceEvent> writableAttendanceEvents = newIdentitySet();
+    /** The total loaded size of the attendance events of this address book, which they keep up to date. */
+    private final AtomicLong loadedAttendanceSize = new AtomicLong();
+    /** Incremented on every change to the data of this address book. */
+    private long generation;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -52,6 +86,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        nameTokenIndex.setPersons(persons);
+        groupIndex.setPersons(persons);
+        persons.forEach(person -> studentOrdinals.ordinalOf(person.getStudentId()));
+        generation++;
     }
 
     /**
@@ -61,7 +99,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
-        attendanceEvents.setAll(newData.getAttendanceEventList());
+
+        // Events indexed by other ordinals are copied, rather than changed, as newData may be a snapshot
+        List<AttendanceEvent> events = new ArrayList<>();
+        attendanceEvents.forEach(event -> event.countLoadedSizeIn(null));
+        attendanceEventsByName.clear();
+        writableAttendanceEvents = newIdentitySet();
+        for (AttendanceEvent event : newData.getAttendanceEventList()) {
+            AttendanceEvent ownEvent = event;
+            if (event.getStudentOrdinals() != studentOrdinals) {
+                ownEvent = new AttendanceEvent(event, studentOrdinals);
+                writableAttendanceEvents.add(ownEvent);
+            }
+            ownEvent.countLoadedSizeIn(loadedAttendanceSize);
+            events.add(ownEvent);
+            attendanceEventsByName.put(foldEventName(ownEvent.getEventName()), ownEvent);
+        }
+        attendanceEvents.setAll(events);
+        persistentAttendanceEvents = PersistentList.of(events);
+        generation++;
     }
 
     //// person-level operations
@@ -74,12 +130,37 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the given {@code studentId}, if any.
+     */
+    public Optional<Person> findByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return persons.findByStudentId(studentId);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        index(p);
+        generation++;
+    }
+
+    /**
+     * Adds all of {@code persons} to the address book, in order, updating the list and indices once.
+     * None of the persons may already exist in the address book, nor appear more than once in {@code persons}.
+     * Adding no persons leaves the address book, and its generation, unchanged.
+     */
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        if (persons.isEmpty()) {
+            return;
+        }
+        this.persons.addAll(persons);
+        persons.forEach(this::index);
+        generation++;
     }
 
     /**
@@ -90,7 +171,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        Person existing = persons.findByStudentId(target.getStudentId()).orElse(target);
         persons.setPerson(target, editedPerson);
+        unindex(existing);
+        index(editedPerson);
+        generation++;
     }
 
     /**
@@ -98,7 +183,71 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        Person existing = persons.findByStudentId(key.getStudentId()).orElse(key);
         persons.remove(key);
+        unindex(existing);
+        generation++;
+    }
+
+    /**
+     * Applies the changes that {@code changes} makes to a {@link MutableAddressBook} to this address book together,
+     * as a single change to the person list that updates the indices once.
+     * If {@code changes} throws, the exception is rethrown and this address book is left unchanged.
+     */
+    public void applyBatch(Consumer<? super MutableAddressBook> changes) {
+        requireNonNull(changes);
+        AddressBookBatch batch = new AddressBookBatch(persons);
+        try {
+            changes.accept(batch);
+        } finally {
+            batch.close();
+        }
+        if (!batch.hasChanges()) {
+            return;
+        }
+
+        List<Person> removedPersons = batch.getRemovedPersons();
+        List<Person> addedPersons = batch.getAddedPersons();
+        persons.setPersons(batch.getPersons());
+        removedPersons.forEach(this::unindex);
+        addedPersons.forEach(this::index);
+        generation++;
+    }
+
+    /**
+     * Returns the persons whose name contains any of the given {@code keywords} as a full word.
+     * Matching is case-insensitive, and the returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokenIndex.getPersonsMatchingAny(keywords);
+    }
+
+    /**
+     * Returns the persons in any group whose name starts with, or contains as a full word, any of the given
+     * {@code keywords}. Matching is case-insensitive, and the returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsInGroupsMatching(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return groupIndex.getMembersOfGroupsMatchingAny(keywords);
+    }
+
+    /**
+     * Returns every group with at least one member, mapped to its number of members.
+     */
+    public Map<Group, Integer> getGroupMemberCounts() {
+        return groupIndex.getGroupMemberCounts();
+    }
+
+    private void index(Person person) {
+        studentOrdinals.ordinalOf(person.getStudentId());
+        nameTokenIndex.add(person);
+        groupIndex.add(person);
+    }
+
+    private void unindex(Person person) {
+        nameTokenIndex.remove(person);
+        groupIndex.remove(person);
     }
 
     //// Attendance-related methods
@@ -108,19 +257,54 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     @Override
     public ObservableList<AttendanceEvent> getAttendanceEventList() {
-        return FXCollections.unmodifiableObservableList(attendanceEvents);
+        return unmodifiableAttendanceEvents;
+    }
+
+    /**
+     * Returns the ordinals that the attendance events of this address book index students by.
+     */
+    public StudentOrdinals getStudentOrdinals() {
+        return studentOrdinals;
     }
 
     /**
      * Adds an attendance event to the address book.
      * The event must not already exist in the address book.
+     * The event is re-indexed by the student ordinals of this address book.
      */
     public void addAttendanceEvent(AttendanceEvent event) {
         requireNonNull(event);
         if (hasAttendanceEvent(event)) {
             throw new DuplicateAttendanceEventException();
         }
+        event.bindTo(studentOrdinals);
+        event.countLoadedSizeIn(loadedAttendanceSize);
+        attendanceEventsByName.put(foldEventName(event.getEventName()), event);
         attendanceEvents.add(event);
+        persistentAttendanceEvents = persistentAttendanceEvents.plus(event);
+        writableAttendanceEvents.add(event);
+        generation++;
+    }
+
+    /**
+     * Marks the attendance of the student with {@code studentId} for the given {@code event}.
+     * The event must exist in the address book.
+     */
+    public void markAttendance(AttendanceEvent event, StudentId studentId, boolean isPresent) {
+        requireAllNonNull(event, studentId);
+        AttendanceEvent writableEvent = event;
+        if (!writableAttendanceEvents.contains(event)) {
+            writableEvent = new AttendanceEvent(event, studentOrdinals);
+            event.countLoadedSizeIn(null);
+            writableEvent.countLoadedSizeIn(loadedAttendanceSize);
+            int index = attendanceEvents.indexOf(event);
+            attendanceEvents.set(index, writableEvent);
+            persistentAttendanceEvents = persistentAttendanceEvents.with(index, writableEvent);
+            attendanceEventsByName.put(foldEventName(event.getEventName()), writableEvent);
+            writableAttendanceEvents.add(writableEvent);
+        }
+        writableEvent.markAttendance(studentId, isPresent);
+        generation++;
     }
 
     /**
@@ -128,9 +312,56 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasAttendanceEvent(AttendanceEvent event) {
         requireNonNull(event);
-        return attendanceEvents.stream().anyMatch(e -> e.isSameEvent(event));
+        return attendanceEventsByName.containsKey(foldEventName(event.getEventName()));
+    }
+
+    /**
+     * Returns the attendance event with the given name, ignoring case, if any.
+     */
+    public Optional<AttendanceEvent> getAttendanceEvent(String eventName) {
+        requireNonNull(eventName);
+        return Optional.ofNullable(attendanceEventsByName.get(foldEventName(eventName)));
+    }
+
+    /**
+     * Returns the total estimated number of bytes of memory held by the loaded records of the attendance events of
+     * this address book, as given by {@link AttendanceEvent#getLoadedSize()}, in O(1) time.
+     */
+    public long getLoadedAttendanceSize() {
+        return loadedAttendanceSize.get();
     }
 
+    /**
+     * Returns the key that attendance event names are looked up by, ignoring case.
+     */
+    static String foldEventName(String eventName) {
+        return eventName.toLowerCase();
+    }
+
+    private static Set<AttendanceEvent> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    //// change tracking methods
+
+    /**
+     * Returns a number that changes whenever the data of this address book changes, so that callers can tell whether
+     * it changed since they last looked without comparing its contents.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    //// snapshot methods
+
+    /**
+     * Returns an immutable copy of the current contents of this address book, in O(1) time.
+     * Later changes to this address book are not reflected in the returned copy.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        writableAttendanceEvents = newIdentitySet();
+        return new AddressBookSnapshot(persons.snapshot(), persistentAttendanceEvents);
+    }
 
 
     //// util methods
@@ -152,7 +383,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The event must exist in the address book.
      */
     public void removeAttendanceEvent(AttendanceEvent event) {
-        attendanceEvents.remove(event);
+        String foldedName = foldEventName(event.getEventName());
+        AttendanceEvent existing = attendanceEventsByName.get(foldedName);
+        if (existing != null && existing.equals(event)) {
+            int index = attendanceEvents.indexOf(existing);
+            attendanceEventsByName.remove(foldedName);
+            attendanceEvents.remove(index);
+            persistentAttendanceEvents = persistentAttendanceEvents.minus(index);
+            writableAttendanceEvents.remove(existing);
+            existing.countLoadedSizeIn(null);
+            generation++;
+        }
     }
 
 
@@ -0,0 +1,176 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A batch of changes to the persons of an address book, made to a working copy of its person list so that the
+ * address book itself is left unchanged until the whole batch is applied.
+ *
+ * The working copy is made on the first change. Deleted persons leave a null in their position, which
+ * {@link #getPersons()} drops in a single compacting pass, and the persons whose student ID was changed by the batch
+ * are kept apart from the unchanged ones, so that lookups need not copy the index of the address book.
+ */
+class AddressBookBatch implements MutableAddressBook {
+
+    private final UniquePersonList base;
+    /** The persons of the batch in order, with null for deleted persons, or null before the first change. */
+    private List<Person> persons;
+    /** The position in {@code persons} of the person with each student ID. */
+    private Map<StudentId, Integer> positions;
+    /** The person with each student ID changed by the batch, or null if the batch removed it. */
+    private final Map<StudentId, Person> changedPersons = new HashMap<>();
+    private boolean isClosed;
+
+    AddressBookBatch(UniquePersonList base) {
+        this.base = base;
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return findByStudentId(person.getStudentId()).isPresent();
+    }
+
+    @Override
+    public Optional<Person> findByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        checkOpen();
+        if (changedPersons.containsKey(studentId)) {
+            return Optional.ofNullable(changedPersons.get(studentId));
+        }
+        return base.findByStudentId(studentId);
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        if (hasPerson(person)) {
+            throw new DuplicatePersonException();
+        }
+
+        copyOnFirstChange();
+        positions.put(person.getStudentId(), persons.size());
+        persons.add(person);
+        changedPersons.put(person.getStudentId(), person);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        checkExists(target);
+        if (!target.isSamePerson(editedPerson) && hasPerson(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        copyOnFirstChange();
+        int position = positions.remove(target.getStudentId());
+        persons.set(position, editedPerson);
+        positions.put(editedPerson.getStudentId(), position);
+        changedPersons.put(target.getStudentId(), null);
+        changedPersons.put(editedPerson.getStudentId(), editedPerson);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        requireNonNull(target);
+        checkExists(target);
+
+        copyOnFirstChange();
+        int position = positions.remove(target.getStudentId());
+        persons.set(position, null);
+        changedPersons.put(target.getStudentId(), null);
+    }
+
+    /**
+     * Returns true if the batch changed any person.
+     */
+    boolean hasChanges() {
+        return persons != null;
+    }
+
+    /**
+     * Returns the persons of the address book after the batch, in order.
+     * Edited persons keep their position, and added persons follow the others in the order they were added.
+     */
+    List<Person> getPersons() {
+        assert hasChanges();
+        return persons.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the persons of the address book that the batch deleted or replaced.
+     * Must be called before the batch is applied to the address book.
+     */
+    List<Person> getRemovedPersons() {
+        List<Person> removed = new ArrayList<>();
+        for (Map.Entry<StudentId, Person> change : changedPersons.entrySet()) {
+            base.findByStudentId(change.getKey())
+                    .filter(original -> original != change.getValue())
+                    .ifPresent(removed::add);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the persons that the batch added, or that replaced a person of the address book.
+     * Must be called before the batch is applied to the address book.
+     */
+    List<Person> getAddedPersons() {
+        List<Person> added = new ArrayList<>();
+        for (Map.Entry<StudentId, Person> change : changedPersons.entrySet()) {
+            Person person = change.getValue();
+            if (person != null && base.findByStudentId(change.getKey()).orElse(null) != person) {
+                added.add(person);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Ends the batch, after which it can no longer be used.
+     */
+    void close() {
+        isClosed = true;
+    }
+
+    private void checkExists(Person target) {
+        Optional<Person> existing = findByStudentId(target.getStudentId());
+        if (existing.isEmpty() || !existing.get().equals(target)) {
+            throw new PersonNotFoundException();
+        }
+    }
+
+    private void checkOpen() {
+        if (isClosed) {
+            throw new IllegalStateException("The batch was already applied");
+        }
+    }
+
+    private void copyOnFirstChange() {
+        if (persons != null) {
+            return;
+        }
+        persons = new ArrayList<>(base.asUnmodifiableObservableList());
+        positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i).getStudentId(), i);
+        }
+    }
+}
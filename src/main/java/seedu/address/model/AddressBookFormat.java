@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * The formats in which the address book can be saved.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, with recent changes kept in a journal beside it. */
+    JSON,
+    /** A compact binary format, which is faster to load and save for large address books. */
+    BINARY,
+    /** A folder of JSON files, one for the persons and one per attendance event, each saved only when it changes. */
+    SHARDED
+}
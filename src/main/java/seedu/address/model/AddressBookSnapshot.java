@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the contents of an {@code AddressBook}, sharing structure with it.
+ *
+ * @see AddressBook#snapshot()
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<AttendanceEvent> attendanceEvents;
+
+    /**
+     * Creates a snapshot of the given persons and attendance events, which no one may change afterwards.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons, PersistentList<AttendanceEvent> attendanceEvents) {
+        requireAllNonNull(persons, attendanceEvents);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.attendanceEvents =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(attendanceEvents));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<AttendanceEvent> getAttendanceEventList() {
+        return attendanceEvents;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.attendance.AttendanceStatusPredicate;
+import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 
@@ -56,11 +62,45 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the current address book data, in O(1) time.
+     * Later changes to the model are not reflected in the returned copy.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns a number that changes whenever the address book data changes.
+     * Commands that only read the address book leave it unchanged.
+     */
+    long getAddressBookGeneration();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the address book with the given {@code studentId}, if any.
+     */
+    Optional<Person> findByStudentId(StudentId studentId);
+
+    /**
+     * Returns the persons whose name contains any of the given {@code keywords} as a full word.
+     * Matching is case-insensitive, and the returned set compares persons by identity.
+     */
+    Set<Person> getPersonsWithNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the persons in any group whose name starts with, or contains as a full word, any of the given
+     * {@code keywords}. Matching is case-insensitive, and the returned set compares persons by identity.
+     */
+    Set<Person> getPersonsInGroupsMatching(Collection<String> keywords);
+
+    /**
+     * Returns every group with at least one member, mapped to its number of members.
+     */
+    Map<Group, Integer> getGroupMemberCounts();
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -73,6 +113,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons, in order, as a single change.
+     * None of {@code persons} may already exist in the address book, nor appear more than once in {@code persons}.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -80,11 +126,19 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Applies the changes that {@code changes} makes to a {@link MutableAddressBook} together, as a single change to
+     * the person list. Each change is checked as it is made, and if {@code changes} throws, none of them is applied.
+     */
+    void applyBatch(Consumer<? super MutableAddressBook> changes);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * Showing all persons when all persons are already shown leaves the list untouched, as changes to the
+     * address book are already reflected in it element by element.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
@@ -100,7 +154,12 @@ public interface Model {
 
     ObservableList<AttendanceEvent> getAttendanceEventList();
 
-    List<Person> getStudentsByAttendance(String eventName, boolean isPresent);
+    /**
+     * Returns a predicate matching the persons whose attendance for the event {@code eventName} is
+     * {@code isPresent}. Persons whose attendance has not been marked count as absent.
+     * @throws IllegalArgumentException if there is no such event.
+     */
+    AttendanceStatusPredicate getAttendancePredicate(String eventName, boolean isPresent);
 
     void deleteAttendanceEvent(AttendanceEvent event);
 
@@ -4,17 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.attendance.AttendanceStatusPredicate;
+import seedu.address.model.attendance.StudentOrdinals;
+import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 
@@ -27,6 +36,10 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    /** Folded names of the attendance events used through this model, least recently used first. */
+    private final Set<String> recentlyUsedEvents = new LinkedHashSet<>();
+    /** The loaded size of the attendance events when events were last unloaded to keep within the budget. */
+    private long loadedSizeAfterUnloading = -1;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -93,12 +106,45 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public long getAddressBookGeneration() {
+        return addressBook.getGeneration();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return addressBook.findByStudentId(studentId);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonsWithNameKeywords(keywords);
+    }
+
+    @Override
+    public Set<Person> getPersonsInGroupsMatching(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonsInGroupsMatching(keywords);
+    }
+
+    @Override
+    public Map<Group, Integer> getGroupMemberCounts() {
+        return addressBook.getGroupMemberCounts();
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -110,6 +156,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -117,6 +170,12 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void applyBatch(Consumer<? super MutableAddressBook> changes) {
+        requireNonNull(changes);
+        addressBook.applyBatch(changes);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -131,9 +190,18 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS && isShowingAllPersons()) {
+            // The filtered list already applies changes to the address book one element at a time
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    private boolean isShowingAllPersons() {
+        Predicate<? super Person> currentPredicate = filteredPersons.getPredicate();
+        return currentPredicate == null || currentPredicate == PREDICATE_SHOW_ALL_PERSONS;
+    }
+
     @Override
     public void addAttendanceEvent(AttendanceEvent event) {
         addressBook.addAttendanceEvent(event);
@@ -147,16 +215,47 @@ public class ModelManager implements Model {
     @Override
     public Optional<AttendanceEvent> getAttendanceEvent(String eventName) {
         requireNonNull(eventName);
-        return addressBook.getAttendanceEventList().stream()
-                .filter(event -> event.getEventName().equalsIgnoreCase(eventName))
-                .findFirst();
+        Optional<AttendanceEvent> event = addressBook.getAttendanceEvent(eventName);
+        event.ifPresent(this::useAttendanceEvent);
+        return event;
+    }
+
+    /**
+     * Loads the records of {@code event}, and unloads the least recently used events while the loaded records take up
+     * more memory than the budget in the user prefs. The event just used is never unloaded.
+     */
+    private void useAttendanceEvent(AttendanceEvent event) {
+        event.load();
+        String usedName = AddressBook.foldEventName(event.getEventName());
+        recentlyUsedEvents.remove(usedName);
+        recentlyUsedEvents.add(usedName);
+
+        long budget = userPrefs.getAttendanceMemoryBudgetBytes();
+        long loadedSize = addressBook.getLoadedAttendanceSize();
+        if (loadedSize <= budget || loadedSize == loadedSizeAfterUnloading) {
+            // Within the budget, or nothing was loaded since the events that could be unloaded were unloaded
+            return;
+        }
+
+        Iterator<String> leastRecentlyUsed = recentlyUsedEvents.iterator();
+        while (addressBook.getLoadedAttendanceSize() > budget && leastRecentlyUsed.hasNext()) {
+            String name = leastRecentlyUsed.next();
+            if (name.equals(usedName)) {
+                break;
+            }
+            if (addressBook.getAttendanceEvent(name).map(AttendanceEvent::unload).orElse(true)) {
+                logger.fine("Unloaded attendance records of event " + name);
+                leastRecentlyUsed.remove();
+            }
+        }
+        loadedSizeAfterUnloading = addressBook.getLoadedAttendanceSize();
     }
 
     @Override
     public void markStudentAttendance(String eventName, StudentId studentId, boolean isPresent) {
         AttendanceEvent event = getAttendanceEvent(eventName)
                 .orElseThrow(() -> new IllegalArgumentException("Attendance event not found"));
-        event.markAttendance(studentId, isPresent);
+        addressBook.markAttendance(event, studentId, isPresent);
     }
 
     @Override
@@ -165,17 +264,20 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public List<Person> getStudentsByAttendance(String eventName, boolean isPresent) {
+    public AttendanceStatusPredicate getAttendancePredicate(String eventName, boolean isPresent) {
         AttendanceEvent event = getAttendanceEvent(eventName)
                 .orElseThrow(() -> new IllegalArgumentException("Attendance event not found"));
 
-        return addressBook.getPersonList().stream()
-                .filter(person -> {
-                    StudentId studentId = person.getStudentId();
-                    boolean attendanceStatus = event.isStudentPresent(studentId);
-                    return attendanceStatus == isPresent;
-                })
-                .collect(Collectors.toList());
+        // Events in the address book share its ordinals, so every person already has one
+        StudentOrdinals studentOrdinals = event.getStudentOrdinals();
+        BitSet matchingOrdinals = new BitSet(studentOrdinals.size());
+        for (Person person : addressBook.getPersonList()) {
+            int ordinal = studentOrdinals.ordinalOf(person.getStudentId());
+            if (event.isPresent(ordinal) == isPresent) {
+                matchingOrdinals.set(ordinal);
+            }
+        }
+        return new AttendanceStatusPredicate(studentOrdinals, matchingOrdinals);
     }
 
     @Override
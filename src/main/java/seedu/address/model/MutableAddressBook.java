@@ -0,0 +1,43 @@
+package seedu.address.model;
+
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * The person-level operations of a batch of changes to an address book, which {@link Model#applyBatch} applies
+ * together. Each operation sees the changes made before it in the same batch, and checks them the same way as the
+ * corresponding operation of {@link Model}.
+ */
+public interface MutableAddressBook {
+
+    /**
+     * Returns true if a person with the same identity as {@code person} exists in the address book.
+     */
+    boolean hasPerson(Person person);
+
+    /**
+     * Returns the person in the address book with the given {@code studentId}, if any.
+     */
+    Optional<Person> findByStudentId(StudentId studentId);
+
+    /**
+     * Adds the given person.
+     * {@code person} must not already exist in the address book.
+     */
+    void addPerson(Person person);
+
+    /**
+     * Replaces the given person {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setPerson(Person target, Person editedPerson);
+
+    /**
+     * Deletes the given person.
+     * The person must exist in the address book.
+     */
+    void deletePerson(Person target);
+}
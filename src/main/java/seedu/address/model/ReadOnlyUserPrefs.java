@@ -13,4 +13,30 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns how long, in milliseconds, changes are collected before the address book is saved in the background.
+     */
+    long getSaveDelayMillis();
+
+    /**
+     * Returns the format in which the address book is saved.
+     */
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Returns true if the address book file is compressed when it is saved.
+     */
+    boolean isAddressBookCompressed();
+
+    /**
+     * Returns how many bytes of memory the attendance records of recently unused events may take up before those
+     * events are unloaded.
+     */
+    long getAttendanceMemoryBudgetBytes();
+
+    /**
+     * Returns how many checkpoints of the address book are kept for recovery, or 0 if none are kept.
+     */
+    int getCheckpointCount();
+
 }
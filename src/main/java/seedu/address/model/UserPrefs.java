@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,18 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_INVALID_SAVE_DELAY = "Save delay must not be negative";
+    public static final String MESSAGE_INVALID_ATTENDANCE_MEMORY_BUDGET =
+            "Attendance memory budget must not be negative";
+    public static final String MESSAGE_INVALID_CHECKPOINT_COUNT = "Checkpoint count must not be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "students.json");
+    private long saveDelayMillis = 200;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean addressBookCompressed = false;
+    private long attendanceMemoryBudgetBytes = 64 * 1024 * 1024;
+    private int checkpointCount = 3;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +47,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSaveDelayMillis(newUserPrefs.getSaveDelayMillis());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookCompressed(newUserPrefs.isAddressBookCompressed());
+        setAttendanceMemoryBudgetBytes(newUserPrefs.getAttendanceMemoryBudgetBytes());
+        setCheckpointCount(newUserPrefs.getCheckpointCount());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +72,50 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        checkArgument(saveDelayMillis >= 0, MESSAGE_INVALID_SAVE_DELAY);
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isAddressBookCompressed() {
+        return addressBookCompressed;
+    }
+
+    public void setAddressBookCompressed(boolean addressBookCompressed) {
+        this.addressBookCompressed = addressBookCompressed;
+    }
+
+    public long getAttendanceMemoryBudgetBytes() {
+        return attendanceMemoryBudgetBytes;
+    }
+
+    public void setAttendanceMemoryBudgetBytes(long attendanceMemoryBudgetBytes) {
+        checkArgument(attendanceMemoryBudgetBytes >= 0, MESSAGE_INVALID_ATTENDANCE_MEMORY_BUDGET);
+        this.attendanceMemoryBudgetBytes = attendanceMemoryBudgetBytes;
+    }
+
+    public int getCheckpointCount() {
+        return checkpointCount;
+    }
+
+    public void setCheckpointCount(int checkpointCount) {
+        checkArgument(checkpointCount >= 0, MESSAGE_INVALID_CHECKPOINT_COUNT);
+        this.checkpointCount = checkpointCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +129,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && saveDelayMillis == otherUserPrefs.saveDelayMillis
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && addressBookCompressed == otherUserPrefs.addressBookCompressed
+                && attendanceMemoryBudgetBytes == otherUserPrefs.attendanceMemoryBudgetBytes
+                && checkpointCount == otherUserPrefs.checkpointCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, saveDelayMillis, addressBookFormat,
+                addressBookCompressed, attendanceMemoryBudgetBytes, checkpointCount);
     }
 
     @Override
@@ -82,6 +148,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSave delay (ms) : " + saveDelayMillis);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nLocal data file compressed : " + addressBookCompressed);
+        sb.append("\nAttendance memory budget (bytes) : " + attendanceMemoryBudgetBytes);
+        sb.append("\nCheckpoint count : " + checkpointCount);
         return sb.toString();
     }
 
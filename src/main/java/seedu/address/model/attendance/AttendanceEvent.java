@@ -2,28 +2,113 @@ package seedu.address.model.attendance;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.attendance.exceptions.AttendanceLoadingException;
 import seedu.address.model.person.StudentId;
 
 /**
  * Represents an attendance event.
+ * Attendance is stored as two bitmaps indexed by the ordinals of a {@link StudentOrdinals} registry: one of the
+ * students whose attendance has been marked, and one of the students marked present.
+ *
+ * An event with an {@link AttendanceSource} may be unloaded, holding only its name until its attendance is first
+ * needed, when its records are loaded from the source. An event that has not been changed since it was loaded can be
+ * unloaded again with {@link #unload()} to free its memory.
+ *
+ * Events may be read on another thread while they are shared with a snapshot, so the bitmaps are only read and
+ * replaced while holding the lock of the event, and are replaced rather than cleared, so that bitmaps taken under the
+ * lock stay intact. An event shared with a snapshot is never changed in place. Reading the records of an unloaded
+ * event through {@link #getAttendanceRecords()} or {@link #equals} reads them from its source without loading them,
+ * so that such a thread, like the one saving a snapshot, never loads or unloads an event.
  */
 public class AttendanceEvent {
+    private static final AtomicLong NEXT_STAMP = new AtomicLong();
+
     private final String eventName;
-    private final Map<StudentId, Boolean> attendanceRecords;
+    private BitSet marked = new BitSet();
+    private BitSet present = new BitSet();
+    /**
+     * Identifies the attendance records of this event. A change to the records takes a new stamp, and a copy keeps
+     * the stamp of its original, so two events with the same stamp have the same records.
+     */
+    private long stamp = NEXT_STAMP.incrementAndGet();
+    /** The counter of the loaded size of the events of an address book that this event adds its size to, if any. */
+    private AtomicLong loadedSizeCounter;
+    private long countedSize;
+    private final Map<StudentId, Boolean> attendanceRecordsView = new AttendanceRecordsView();
+    private StudentOrdinals studentOrdinals;
+    private final AttendanceSource source;
+    private boolean isLoaded = true;
+    /** True if the attendance has been changed since it was loaded from the source. */
+    private boolean isModified;
 
     /**
-     * Constructs an AttendanceEvent with the given name.
+     * Constructs an AttendanceEvent with the given name, using its own student ordinals.
      *
      * @param eventName Name of the attendance event.
      */
     public AttendanceEvent(String eventName) {
+        this(eventName, new StudentOrdinals());
+    }
+
+    /**
+     * Constructs a copy of {@code toBeCopied} that indexes students by the given {@code studentOrdinals}.
+     * Later changes to either event do not affect the other.
+     */
+    public AttendanceEvent(AttendanceEvent toBeCopied, StudentOrdinals studentOrdinals) {
+        this(toBeCopied.eventName, toBeCopied.studentOrdinals, toBeCopied.source);
+        synchronized (toBeCopied) {
+            // An unloaded event is copied unloaded, as its source still holds its records
+            isLoaded = toBeCopied.isLoaded;
+            isModified = toBeCopied.isModified;
+            stamp = toBeCopied.stamp;
+            marked.or(toBeCopied.marked);
+            present.or(toBeCopied.present);
+        }
+        bindTo(studentOrdinals);
+    }
+
+    /**
+     * Constructs an unloaded AttendanceEvent with the given name, whose records are loaded from {@code source} when
+     * first needed.
+     *
+     * @param eventName Name of the attendance event.
+     * @param source Where the attendance records of the event are loaded from.
+     */
+    public AttendanceEvent(String eventName, AttendanceSource source) {
+        this(eventName, new StudentOrdinals(), source);
+        requireNonNull(source);
+        isLoaded = false;
+    }
+
+    /**
+     * Constructs an AttendanceEvent with the given name, indexing students by the given {@code studentOrdinals}.
+     *
+     * @param eventName Name of the attendance event.
+     * @param studentOrdinals Ordinals to index students by.
+     */
+    public AttendanceEvent(String eventName, StudentOrdinals studentOrdinals) {
+        this(eventName, studentOrdinals, null);
+    }
+
+    private AttendanceEvent(String eventName, StudentOrdinals studentOrdinals, AttendanceSource source) {
         requireNonNull(eventName);
+        requireNonNull(studentOrdinals);
         this.eventName = eventName;
-        this.attendanceRecords = new HashMap<>();
+        this.studentOrdinals = studentOrdinals;
+        this.source = source;
     }
 
     public String getEventName() {
@@ -47,9 +132,15 @@ public class AttendanceEvent {
      * @param studentId Student's ID.
      * @param isPresent True if present, false if absent.
      */
-    public void markAttendance(StudentId studentId, boolean isPresent) {
+    public synchronized void markAttendance(StudentId studentId, boolean isPresent) {
         requireNonNull(studentId);
-        attendanceRecords.put(studentId, isPresent);
+        load();
+        int ordinal = studentOrdinals.ordinalOf(studentId);
+        marked.set(ordinal);
+        present.set(ordinal, isPresent);
+        isModified = true;
+        stamp = NEXT_STAMP.incrementAndGet();
+        updateCountedSize();
     }
 
     /**
@@ -58,18 +149,200 @@ public class AttendanceEvent {
      * @param studentId Student's ID.
      * @return True if present, false if absent or not marked.
      */
-    public boolean isStudentPresent(StudentId studentId) {
+    public synchronized boolean isStudentPresent(StudentId studentId) {
         requireNonNull(studentId);
-        return attendanceRecords.getOrDefault(studentId, false);
+        load();
+        return isPresent(studentOrdinals.find(studentId));
+    }
+
+    /**
+     * Returns true if the student with the given ordinal in {@link #getStudentOrdinals()} is marked present.
+     */
+    public synchronized boolean isPresent(int ordinal) {
+        load();
+        return ordinal >= 0 && present.get(ordinal);
+    }
+
+    /**
+     * Returns the number of students marked present.
+     */
+    public synchronized int getPresentCount() {
+        load();
+        return present.cardinality();
+    }
+
+    /**
+     * Returns the ordinals this event indexes students by.
+     */
+    public synchronized StudentOrdinals getStudentOrdinals() {
+        return studentOrdinals;
+    }
+
+    /**
+     * Re-indexes this event by the given {@code studentOrdinals}, so that it shares ordinals with its address book.
+     * Does nothing if this event is already indexed by them.
+     */
+    public synchronized void bindTo(StudentOrdinals newStudentOrdinals) {
+        requireNonNull(newStudentOrdinals);
+        if (newStudentOrdinals == studentOrdinals) {
+            return;
+        }
+        if (!isLoaded) {
+            // The records are indexed by the new ordinals when they are loaded
+            studentOrdinals = newStudentOrdinals;
+            return;
+        }
+
+        BitSet newMarked = new BitSet();
+        BitSet newPresent = new BitSet();
+        for (int i = marked.nextSetBit(0); i >= 0; i = marked.nextSetBit(i + 1)) {
+            int newOrdinal = newStudentOrdinals.ordinalOf(studentOrdinals.getStudentId(i));
+            newMarked.set(newOrdinal);
+            newPresent.set(newOrdinal, present.get(i));
+        }
+        marked = newMarked;
+        present = newPresent;
+        studentOrdinals = newStudentOrdinals;
+        updateCountedSize();
     }
 
     /**
-     * Returns the attendance records.
+     * Returns an unmodifiable view of the attendance records, ordered by student ordinal if they are loaded.
+     * The view is backed by this event, so later changes to the attendance are reflected in it. Reading the view of
+     * an unloaded event reads the records from its source each time, without loading them.
      *
      * @return Map of StudentId to attendance status.
      */
     public Map<StudentId, Boolean> getAttendanceRecords() {
-        return new HashMap<>(attendanceRecords);
+        return attendanceRecordsView;
+    }
+
+    //// loading methods
+
+    /**
+     * Returns true if the attendance records of this event are in memory.
+     */
+    public synchronized boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Loads the attendance records of this event from its source, if they are not in memory.
+     *
+     * @throws AttendanceLoadingException if the records could not be loaded.
+     */
+    public synchronized void load() {
+        if (isLoaded) {
+            return;
+        }
+
+        Map<StudentId, Boolean> records = readSource();
+        BitSet loadedMarked = new BitSet();
+        BitSet loadedPresent = new BitSet();
+        for (Map.Entry<StudentId, Boolean> record : records.entrySet()) {
+            int ordinal = studentOrdinals.ordinalOf(record.getKey());
+            loadedMarked.set(ordinal);
+            loadedPresent.set(ordinal, record.getValue());
+        }
+        marked = loadedMarked;
+        present = loadedPresent;
+        isLoaded = true;
+        isModified = false;
+        updateCountedSize();
+    }
+
+    /**
+     * Frees the memory held by the attendance records of this event, if they can be loaded again from its source
+     * because they have not been changed since they were loaded.
+     *
+     * @return true if this event is now unloaded.
+     */
+    public synchronized boolean unload() {
+        if (source == null || isModified) {
+            return false;
+        }
+        marked = new BitSet();
+        present = new BitSet();
+        isLoaded = false;
+        updateCountedSize();
+        return true;
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of memory held by the attendance records of this event.
+     */
+    public synchronized long getLoadedSize() {
+        if (!isLoaded) {
+            return 0;
+        }
+        return (marked.size() + present.size()) / Byte.SIZE;
+    }
+
+    /**
+     * Adds the loaded size of this event, now and as it changes, to {@code counter} instead of to the counter it was
+     * counted in before, if any, which no longer includes it.
+     *
+     * @param counter The counter to count the loaded size in, or null to count it nowhere.
+     */
+    public synchronized void countLoadedSizeIn(AtomicLong counter) {
+        if (counter == loadedSizeCounter) {
+            return;
+        }
+        if (loadedSizeCounter != null) {
+            loadedSizeCounter.addAndGet(-countedSize);
+        }
+        loadedSizeCounter = counter;
+        countedSize = getLoadedSize();
+        if (loadedSizeCounter != null) {
+            loadedSizeCounter.addAndGet(countedSize);
+        }
+    }
+
+    /**
+     * Adds the change in the loaded size of this event to its counter. Must be called while holding the lock.
+     */
+    private void updateCountedSize() {
+        long size = getLoadedSize();
+        if (loadedSizeCounter != null) {
+            loadedSizeCounter.addAndGet(size - countedSize);
+        }
+        countedSize = size;
+    }
+
+    /**
+     * Returns the bitmaps and ordinals of the records of this event, which stay intact even if the event is later
+     * unloaded, or null if the records are not loaded.
+     */
+    private synchronized Records getLoadedRecords() {
+        return isLoaded ? new Records(marked, present, studentOrdinals) : null;
+    }
+
+    /**
+     * Returns the attendance records in the source of this event.
+     *
+     * @throws AttendanceLoadingException if the records could not be read.
+     */
+    private Map<StudentId, Boolean> readSource() {
+        try {
+            return source.loadAttendanceRecords();
+        } catch (DataLoadingException e) {
+            throw new AttendanceLoadingException(eventName, e);
+        }
+    }
+
+    /**
+     * Returns a copy of the attendance records of this event, read from its source if they are not loaded.
+     */
+    private Map<StudentId, Boolean> readRecords() {
+        Records records = getLoadedRecords();
+        if (records == null) {
+            return readSource();
+        }
+        Map<StudentId, Boolean> copy = new HashMap<>();
+        for (int i = records.marked.nextSetBit(0); i >= 0; i = records.marked.nextSetBit(i + 1)) {
+            copy.put(records.studentOrdinals.getStudentId(i), records.present.get(i));
+        }
+        return copy;
     }
 
     @Override
@@ -82,7 +355,24 @@ public class AttendanceEvent {
         }
 
         AttendanceEvent that = (AttendanceEvent) o;
-        return eventName.equalsIgnoreCase(that.eventName) && attendanceRecords.equals(that.attendanceRecords);
+        if (!eventName.equalsIgnoreCase(that.eventName)) {
+            return false;
+        }
+        if (getStamp() == that.getStamp()) {
+            // Both hold the same records, whether or not they are loaded
+            return true;
+        }
+
+        Records records = getLoadedRecords();
+        Records thatRecords = that.getLoadedRecords();
+        if (records != null && thatRecords != null && records.studentOrdinals == thatRecords.studentOrdinals) {
+            return records.marked.equals(thatRecords.marked) && records.present.equals(thatRecords.present);
+        }
+        return readRecords().equals(that.readRecords());
+    }
+
+    private synchronized long getStamp() {
+        return stamp;
     }
 
     @Override
@@ -94,4 +384,86 @@ public class AttendanceEvent {
     public String toString() {
         return String.format("AttendanceEvent{name='%s'}", eventName);
     }
+
+    /**
+     * The attendance bitmaps of an event, with the ordinals that they are indexed by.
+     */
+    private static class Records {
+        private final BitSet marked;
+        private final BitSet present;
+        private final StudentOrdinals studentOrdinals;
+
+        Records(BitSet marked, BitSet present, StudentOrdinals studentOrdinals) {
+            this.marked = marked;
+            this.present = present;
+            this.studentOrdinals = studentOrdinals;
+        }
+    }
+
+    /**
+     * A read-only map view over the attendance bitmaps.
+     */
+    private class AttendanceRecordsView extends AbstractMap<StudentId, Boolean> {
+        private final Set<Entry<StudentId, Boolean>> entrySet = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<StudentId, Boolean>> iterator() {
+                // The iterator keeps the records it started with, even if the event is unloaded meanwhile
+                Records records = getLoadedRecords();
+                if (records == null) {
+                    return Collections.unmodifiableMap(readSource()).entrySet().iterator();
+                }
+                BitSet marked = records.marked;
+                BitSet present = records.present;
+                StudentOrdinals studentOrdinals = records.studentOrdinals;
+                return new Iterator<>() {
+                    private int next = marked.nextSetBit(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next >= 0;
+                    }
+
+                    @Override
+                    public Entry<StudentId, Boolean> next() {
+                        if (next < 0) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<StudentId, Boolean> entry =
+                                new SimpleImmutableEntry<>(studentOrdinals.getStudentId(next), present.get(next));
+                        next = marked.nextSetBit(next + 1);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                Records records = getLoadedRecords();
+                return records == null ? readSource().size() : records.marked.cardinality();
+            }
+        };
+
+        @Override
+        public Set<Entry<StudentId, Boolean>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public Boolean get(Object key) {
+            if (!(key instanceof StudentId)) {
+                return null;
+            }
+            Records records = getLoadedRecords();
+            if (records == null) {
+                return readSource().get(key);
+            }
+            int ordinal = records.studentOrdinals.find((StudentId) key);
+            return ordinal >= 0 && records.marked.get(ordinal) ? records.present.get(ordinal) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+    }
 }
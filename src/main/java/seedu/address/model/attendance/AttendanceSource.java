@@ -0,0 +1,21 @@
+package seedu.address.model.attendance;
+
+import java.util.Map;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Where the attendance records of an {@link AttendanceEvent} can be loaded from, so that the event can be kept in
+ * memory without its records until they are needed.
+ */
+@FunctionalInterface
+public interface AttendanceSource {
+
+    /**
+     * Returns the attendance records of the event, mapping each marked student to whether they are present.
+     *
+     * @throws DataLoadingException if the records could not be loaded.
+     */
+    Map<StudentId, Boolean> loadAttendanceRecords() throws DataLoadingException;
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} is one of the students found to have a given attendance status for an event.
+ * The matching students are held as a bitmap indexed by their {@link StudentOrdinals} ordinal, so each test is a
+ * single lookup.
+ */
+public class AttendanceStatusPredicate implements Predicate<Person> {
+    private final StudentOrdinals studentOrdinals;
+    private final BitSet matchingOrdinals;
+
+    /**
+     * Constructs an {@code AttendanceStatusPredicate} matching the students whose ordinals are set in
+     * {@code matchingOrdinals}.
+     *
+     * @param studentOrdinals Ordinals the students are indexed by.
+     * @param matchingOrdinals Ordinals of the matching students.
+     */
+    public AttendanceStatusPredicate(StudentOrdinals studentOrdinals, BitSet matchingOrdinals) {
+        requireNonNull(studentOrdinals);
+        requireNonNull(matchingOrdinals);
+        this.studentOrdinals = studentOrdinals;
+        this.matchingOrdinals = (BitSet) matchingOrdinals.clone();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        int ordinal = studentOrdinals.find(person.getStudentId());
+        return ordinal >= 0 && matchingOrdinals.get(ordinal);
+    }
+
+    /**
+     * Returns the number of matching students.
+     */
+    public int getMatchCount() {
+        return matchingOrdinals.cardinality();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceStatusPredicate)) {
+            return false;
+        }
+
+        AttendanceStatusPredicate otherAttendanceStatusPredicate = (AttendanceStatusPredicate) other;
+        return studentOrdinals == otherAttendanceStatusPredicate.studentOrdinals
+                && matchingOrdinals.equals(otherAttendanceStatusPredicate.matchingOrdinals);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("matchingOrdinals", matchingOrdinals).toString();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.StudentIdMap;
+
+/**
+ * Assigns each {@code StudentId} a small, stable ordinal, so that attendance can be stored as bitmaps indexed by
+ * ordinal. Ordinals are handed out in order of first use and are never reassigned, even after a student is removed,
+ * so bitmaps indexed by an ordinal stay valid for as long as this registry is in use.
+ * Methods are synchronized, as snapshots of an address book may read ordinals while it assigns new ones.
+ */
+public class StudentOrdinals {
+
+    /** Returned by {@link #find(StudentId)} when the student has no ordinal. */
+    public static final int NO_ORDINAL = -1;
+
+    private final StudentIdMap<Integer> ordinalsByStudentId = new StudentIdMap<>();
+    private final List<StudentId> studentIdsByOrdinal = new ArrayList<>();
+
+    /**
+     * Returns the ordinal of the given {@code studentId}, assigning the next free ordinal if it has none.
+     */
+    public synchronized int ordinalOf(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer ordinal = ordinalsByStudentId.get(studentId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int newOrdinal = studentIdsByOrdinal.size();
+        ordinalsByStudentId.put(studentId, newOrdinal);
+        studentIdsByOrdinal.add(studentId);
+        return newOrdinal;
+    }
+
+    /**
+     * Returns the ordinal of the given {@code studentId}, or {@link #NO_ORDINAL} if it has none.
+     */
+    public synchronized int find(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer ordinal = ordinalsByStudentId.get(studentId);
+        return ordinal == null ? NO_ORDINAL : ordinal;
+    }
+
+    /**
+     * Returns the {@code StudentId} that was assigned the given {@code ordinal}.
+     */
+    public synchronized StudentId getStudentId(int ordinal) {
+        return studentIdsByOrdinal.get(ordinal);
+    }
+
+    /**
+     * Returns the number of ordinals assigned so far.
+     */
+    public synchronized int size() {
+        return studentIdsByOrdinal.size();
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.model.attendance.exceptions;
+
+/**
+ * Signals that the attendance records of an AttendanceEvent could not be loaded from its source.
+ */
+public class AttendanceLoadingException extends RuntimeException {
+    private final String eventName;
+
+    /**
+     * Constructs an AttendanceLoadingException for the event named {@code eventName}.
+     */
+    public AttendanceLoadingException(String eventName, Throwable cause) {
+        super("Attendance records of event " + eventName + " could not be loaded", cause);
+        this.eventName = eventName;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.Interner;
 
 /**
  * Represents a Group in the address book.
@@ -18,6 +19,7 @@ public class Group {
     // AI was used to generate regex
     public static final String VALIDATION_REGEX = "^.{1,100}$";
     private static final Logger logger = LogsCenter.getLogger(Group.class);
+    private static final Interner<Group> GROUPS = new Interner<>(Group::new);
     public final String groupName;
     /**
      * Constructs a {@code Group}.
@@ -28,7 +30,18 @@ public class Group {
         requireNonNull(groupName);
         checkArgument(isValidGroupName(groupName), MESSAGE_CONSTRAINTS);
         this.groupName = groupName;
-        logger.info("A group is created: " + this.groupName);
+        logger.fine("A group is created: " + this.groupName);
+    }
+
+    /**
+     * Returns the canonical {@code Group} with the given name, constructing it only if there is none.
+     * Groups made through this method with the same name, including its case, are the same instance.
+     *
+     * @param groupName A valid group name.
+     */
+    public static Group makeGroup(String groupName) {
+        requireNonNull(groupName);
+        return GROUPS.intern(groupName);
     }
 
     /**
@@ -1,5 +1,6 @@
 package seedu.address.model.group;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -63,6 +64,13 @@ public class GroupContainsKeywordsPredicate implements Predicate<Person> {
         }
     }
 
+    /**
+     * Returns the keywords of this predicate as an unmodifiable list.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     /**
      * Checks if the Group List only has valid groups
      * @param groups
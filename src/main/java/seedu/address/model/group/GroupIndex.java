@@ -0,0 +1,208 @@
+package seedu.address.model.group;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index from each {@code Group} to the persons in it.
+ * Group names are case-folded, matching {@link Group#equals(Object)}, and kept in a prefix trie so that groups can be
+ * looked up by prefix, and in a word index so that groups can be looked up by any full word of their name.
+ * Persons are tracked by identity, as the index is kept in sync with the exact instances held by the address book.
+ *
+ * Supports a minimal set of index operations.
+ */
+public class GroupIndex {
+
+    private final Map<String, Entry> entriesByGroupName = new HashMap<>();
+    private final Map<String, Set<Entry>> entriesByWord = new HashMap<>();
+    private final TrieNode root = new TrieNode();
+
+    /**
+     * Adds the given person to every group it is in.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        for (Group group : toAdd.getGroups()) {
+            String foldedName = fold(group.getGroupName());
+            Entry entry = entriesByGroupName.get(foldedName);
+            if (entry == null) {
+                entry = new Entry(group);
+                entriesByGroupName.put(foldedName, entry);
+                indexEntry(foldedName, entry);
+            }
+            entry.members.add(toAdd);
+        }
+    }
+
+    /**
+     * Removes the given person from every group it is in.
+     * Groups left without members are dropped from the index.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        for (Group group : toRemove.getGroups()) {
+            String foldedName = fold(group.getGroupName());
+            Entry entry = entriesByGroupName.get(foldedName);
+            if (entry == null) {
+                continue;
+            }
+            entry.members.remove(toRemove);
+            if (entry.members.isEmpty()) {
+                entriesByGroupName.remove(foldedName);
+                unindexEntry(foldedName, entry);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        entriesByGroupName.clear();
+        entriesByWord.clear();
+        root.children.clear();
+        root.entry = null;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons in the given {@code group}. The returned set compares persons by identity.
+     */
+    public Set<Person> getMembers(Group group) {
+        requireNonNull(group);
+        Entry entry = entriesByGroupName.get(fold(group.getGroupName()));
+        return entry == null ? Collections.emptySet() : Collections.unmodifiableSet(entry.members);
+    }
+
+    /**
+     * Returns the persons in any group whose name starts with, or contains as a full word, any of the given
+     * {@code keywords}. Matching is case-insensitive. The returned set compares persons by identity.
+     *
+     * @see GroupContainsKeywordsPredicate
+     */
+    public Set<Person> getMembersOfGroupsMatchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            TrieNode node = find(fold(keyword));
+            if (node != null) {
+                forEachEntry(node, entry -> matches.addAll(entry.members));
+            }
+            for (Entry entry : entriesByWord.getOrDefault(fold(keyword.trim()), Collections.emptySet())) {
+                matches.addAll(entry.members);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns every group with at least one member, mapped to its number of members.
+     * Groups are ordered by their case-folded name.
+     */
+    public Map<Group, Integer> getGroupMemberCounts() {
+        Map<Group, Integer> counts = new LinkedHashMap<>();
+        forEachEntry(root, entry -> counts.put(entry.group, entry.members.size()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private void indexEntry(String foldedName, Entry entry) {
+        TrieNode node = root;
+        for (int i = 0; i < foldedName.length(); i++) {
+            node = node.children.computeIfAbsent(foldedName.charAt(i), unused -> new TrieNode());
+        }
+        node.entry = entry;
+
+        for (String word : foldedName.split("\\s+")) {
+            entriesByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(entry);
+        }
+    }
+
+    private void unindexEntry(String foldedName, Entry entry) {
+        Deque<TrieNode> path = new ArrayDeque<>();
+        TrieNode node = root;
+        for (int i = 0; i < foldedName.length(); i++) {
+            path.push(node);
+            node = node.children.get(foldedName.charAt(i));
+        }
+        node.entry = null;
+
+        // Prune the branch that no longer leads to any group
+        for (int i = foldedName.length() - 1; i >= 0 && node.isEmpty(); i--) {
+            TrieNode parent = path.pop();
+            parent.children.remove(foldedName.charAt(i));
+            node = parent;
+        }
+
+        for (String word : foldedName.split("\\s+")) {
+            Set<Entry> entries = entriesByWord.get(word);
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                entriesByWord.remove(word);
+            }
+        }
+    }
+
+    private TrieNode find(String foldedPrefix) {
+        TrieNode node = root;
+        for (int i = 0; i < foldedPrefix.length() && node != null; i++) {
+            node = node.children.get(foldedPrefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static void forEachEntry(TrieNode start, Consumer<Entry> action) {
+        Deque<TrieNode> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            TrieNode node = stack.pop();
+            if (node.entry != null) {
+                action.accept(node.entry);
+            }
+            // Push in descending order so that children are visited in ascending order
+            node.children.descendingMap().values().forEach(stack::push);
+        }
+    }
+
+    private static String fold(String groupName) {
+        return groupName.toLowerCase();
+    }
+
+    /**
+     * A group together with its members.
+     */
+    private static class Entry {
+        private final Group group;
+        private final Set<Person> members = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private Entry(Group group) {
+            this.group = group;
+        }
+    }
+
+    /**
+     * A node of the case-folded group name trie.
+     */
+    private static class TrieNode {
+        private final TreeMap<Character, TrieNode> children = new TreeMap<>();
+        private Entry entry;
+
+        private boolean isEmpty() {
+            return entry == null && children.isEmpty();
+        }
+    }
+}
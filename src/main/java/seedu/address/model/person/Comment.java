@@ -27,7 +27,7 @@ public class Comment {
     public Comment(String comment) {
         requireNonNull(comment);
         value = comment;
-        logger.info("A comment had been added: " + this.value);
+        logger.fine("A comment had been added: " + this.value);
     }
 
     @Override
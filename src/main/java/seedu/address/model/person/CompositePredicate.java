@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -19,6 +20,13 @@ public class CompositePredicate implements Predicate<Person> {
         predicates.add(predicate);
     }
 
+    /**
+     * Returns the combined predicates as an unmodifiable list.
+     */
+    public List<Predicate<Person>> getPredicates() {
+        return Collections.unmodifiableList(predicates);
+    }
+
     @Override
     public boolean test(Person person) {
         return predicates.stream().anyMatch(predicate -> predicate.test(person));
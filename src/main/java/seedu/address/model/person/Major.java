@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's major in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidMajor(String)}
@@ -17,6 +19,7 @@ public class Major {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
     private static final Major EMPTY_MAJOR = new Major();
+    private static final Interner<Major> MAJORS = new Interner<>(Major::new);
 
     public final String value;
 
@@ -40,7 +43,8 @@ public class Major {
     }
 
     /**
-     * Constructs a {@code Major} or returns an empty {@code Major} instance.
+     * Returns the canonical {@code Major} for the given value, or the empty {@code Major} instance.
+     * Equal majors made through this method are the same instance.
      *
      * @param major A valid major or an empty string
      */
@@ -51,7 +55,7 @@ public class Major {
             return EMPTY_MAJOR;
         }
 
-        return new Major(major);
+        return MAJORS.intern(major);
     }
 
     /**
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -31,7 +32,7 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
     public boolean test(Person person) {
 
         // Split person's name into words
-        String[] nameWords = person.getName().fullName.toLowerCase().split("\\s+");
+        String[] nameWords = NameTokenIndex.tokenize(person.getName());
 
         // Check if any keyword matches any of the name words
         for (String word : nameWords) {
@@ -42,6 +43,13 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return false;
     }
 
+    /**
+     * Returns the lowercased keywords of this predicate as an unmodifiable set.
+     */
+    public Set<String> getKeywords() {
+        return Collections.unmodifiableSet(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lowercased words of a {@code Person}'s {@code Name} to the persons having that word.
+ * Persons are tracked by identity, as the index is kept in sync with the exact instances held by the address book.
+ *
+ * Supports a minimal set of index operations.
+ */
+public class NameTokenIndex {
+
+    private final Map<String, Set<Person>> personsByToken = new HashMap<>();
+
+    /**
+     * Returns the lowercased words of the given {@code name}, in the same way as
+     * {@link NameContainsKeywordsPredicate} matches them.
+     */
+    public static String[] tokenize(Name name) {
+        requireNonNull(name);
+        return name.fullName.toLowerCase().split("\\s+");
+    }
+
+    /**
+     * Indexes the given person under every word of its name.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        for (String token : tokenize(toAdd.getName())) {
+            personsByToken.computeIfAbsent(token, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(toAdd);
+        }
+    }
+
+    /**
+     * Removes the given person from every word of its name.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        for (String token : tokenize(toRemove.getName())) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(toRemove);
+            if (persons.isEmpty()) {
+                personsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByToken.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose name contains any of the given {@code keywords} as a full word.
+     * Matching is case-insensitive. The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsMatchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            matches.addAll(personsByToken.getOrDefault(keyword.toLowerCase(), Collections.emptySet()));
+        }
+        return matches;
+    }
+}
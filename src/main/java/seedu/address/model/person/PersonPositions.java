@@ -0,0 +1,125 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * The positions of the persons in a list that persons are only added to the end of, replaced in or removed from,
+ * keyed by {@code StudentId}, so that the position of a person is found in O(log n) time rather than by a scan.
+ *
+ * Each person added takes the next free slot in a row of slots, and keeps it until removed, so the position of a
+ * person is the number of persons in the slots before its own. Those counts are kept in a Fenwick tree over the
+ * slots. Once the row is full, the persons are given new slots, in order, in a row twice as long as there are persons.
+ *
+ * Supports a minimal set of index operations.
+ */
+public class PersonPositions {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final StudentIdMap<Integer> slots = new StudentIdMap<>();
+    // Slots are numbered from 1, and tree[i] counts the persons in the slots after i - (i & -i), up to and including i
+    private int[] tree = new int[MIN_CAPACITY + 1];
+    private int slotsTaken;
+
+    /**
+     * Returns the position of the person with the given {@code studentId}, which must be in the list.
+     */
+    public int positionOf(StudentId studentId) {
+        requireNonNull(studentId);
+        return countBefore(slots.get(studentId));
+    }
+
+    /**
+     * Records that {@code count} persons are about to be added to the end of {@code persons}, the current list,
+     * giving its persons new slots if there are not enough free slots for them.
+     */
+    public void reserve(List<Person> persons, int count) {
+        requireNonNull(persons);
+        if (slotsTaken + count >= tree.length) {
+            setAll(persons, count);
+        }
+    }
+
+    /**
+     * Records that the person with {@code studentId} was added to the end of the list, after a call to
+     * {@link #reserve} made room for it.
+     */
+    public void add(StudentId studentId) {
+        requireNonNull(studentId);
+        slotsTaken++;
+        slots.put(studentId, slotsTaken);
+        update(slotsTaken, 1);
+    }
+
+    /**
+     * Records that the person with {@code studentId} was replaced by a person with {@code replacementId}, at the same
+     * position.
+     */
+    public void replace(StudentId studentId, StudentId replacementId) {
+        requireNonNull(replacementId);
+        slots.put(replacementId, slots.remove(studentId));
+    }
+
+    /**
+     * Records that the person with {@code studentId} was removed from the list, returning the position it was at.
+     */
+    public int remove(StudentId studentId) {
+        int slot = slots.remove(studentId);
+        update(slot, -1);
+        return countBefore(slot);
+    }
+
+    /**
+     * Replaces the contents of this index with the positions of {@code persons}.
+     */
+    public void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        setAll(persons, 0);
+    }
+
+    /**
+     * Replaces the contents of this index with those of {@code replacement}.
+     */
+    public void setAll(PersonPositions replacement) {
+        requireNonNull(replacement);
+        slots.setAll(replacement.slots);
+        tree = replacement.tree.clone();
+        slotsTaken = replacement.slotsTaken;
+    }
+
+    /**
+     * Gives {@code persons} the first slots of a new row with room for them and {@code extra} more persons.
+     */
+    private void setAll(List<Person> persons, int extra) {
+        slots.clear();
+        tree = new int[Math.max(MIN_CAPACITY, 2 * (persons.size() + extra)) + 1];
+        slotsTaken = persons.size();
+        for (int slot = 1; slot < tree.length; slot++) {
+            if (slot <= slotsTaken) {
+                slots.put(persons.get(slot - 1).getStudentId(), slot);
+                tree[slot]++;
+            }
+            // Each node passes its count on to the next node covering it, building the tree in linear time
+            int parent = slot + (slot & -slot);
+            if (parent < tree.length) {
+                tree[parent] += tree[slot];
+            }
+        }
+    }
+
+    private void update(int slot, int delta) {
+        for (int i = slot; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int countBefore(int slot) {
+        int count = 0;
+        for (int i = slot - 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+}
@@ -5,16 +5,23 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Person's StudentId in the address book.
+ * A StudentId is stored only as a packed key holding its seven digits and check letter, which identifies it uniquely
+ * and is used for equality, hashing and {@link StudentIdMap}. Its text is formatted from the key when needed.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentId(String)}
  */
 public class StudentId {
 
-
     public static final String MESSAGE_CONSTRAINTS =
             "Student ID (NUS Matriculation Number) should be 9 characters long, in the format 'AXXXXXXXC' where 'X' "
                     + "can be any number and 'C' can be any letter. Example: A1234567L";
     public static final String VALIDATION_REGEX = "[aA]\\d{7}[a-zA-Z]";
-    public final String value;
+
+    private static final int DIGITS_LIMIT = 10_000_000;
+    private static final int CHECK_LETTERS = 26;
+
+    private static final int DIGIT_COUNT = 7;
+
+    private final int key;
 
     /**
      * Constructs a {@code StudentId}.
@@ -24,19 +31,89 @@ public class StudentId {
     public StudentId(String studentId) {
         requireNonNull(studentId);
         checkArgument(isValidStudentId(studentId), MESSAGE_CONSTRAINTS);
-        value = studentId.toUpperCase();
+        key = pack(studentId.toUpperCase());
+    }
+
+    private StudentId(int key) {
+        this.key = key;
+    }
+
+    /**
+     * Returns the {@code StudentId} with the given packed key.
+     *
+     * @param key A valid key, as declared in {@link #isValidKey(int)}.
+     */
+    public static StudentId fromKey(int key) {
+        checkArgument(isValidKey(key), MESSAGE_CONSTRAINTS);
+        return new StudentId(key);
+    }
+
+    /**
+     * Returns true if the given number is the packed key of some student ID.
+     */
+    public static boolean isValidKey(int test) {
+        return test >= 0 && test < DIGITS_LIMIT * CHECK_LETTERS;
     }
 
     /**
      * Returns true if a given string is a valid studentId.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, without compiling the pattern.
      */
     public static boolean isValidStudentId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != 9) {
+            return false;
+        }
+
+        char prefix = test.charAt(0);
+        if (prefix != 'a' && prefix != 'A') {
+            return false;
+        }
+        for (int i = 1; i <= 7; i++) {
+            char digit = test.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return false;
+            }
+        }
+        char checkLetter = test.charAt(8);
+        return (checkLetter >= 'a' && checkLetter <= 'z') || (checkLetter >= 'A' && checkLetter <= 'Z');
+    }
+
+    /**
+     * Packs the digits and check letter of a valid, uppercased student ID into a non-negative key.
+     */
+    private static int pack(String validStudentId) {
+        int digits = 0;
+        for (int i = 1; i <= DIGIT_COUNT; i++) {
+            digits = digits * 10 + (validStudentId.charAt(i) - '0');
+        }
+        return digits * CHECK_LETTERS + (validStudentId.charAt(8) - 'A');
+    }
+
+    /**
+     * Returns the text of this student ID, in uppercase, e.g. {@code A1234567L}.
+     */
+    public String getValue() {
+        char[] chars = new char[DIGIT_COUNT + 2];
+        chars[0] = 'A';
+        int digits = key / CHECK_LETTERS;
+        for (int i = DIGIT_COUNT; i >= 1; i--) {
+            chars[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        chars[DIGIT_COUNT + 1] = (char) ('A' + key % CHECK_LETTERS);
+        return new String(chars);
+    }
+
+    /**
+     * Returns the packed key of this student ID. Two student IDs are equal if and only if their keys are equal.
+     */
+    public int getKey() {
+        return key;
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -51,12 +128,12 @@ public class StudentId {
         }
 
         StudentId otherStudentId = (StudentId) other;
-        return value.equals(otherStudentId.value);
+        return key == otherStudentId.key;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return key;
     }
 
 }
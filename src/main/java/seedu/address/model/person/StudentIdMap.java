@@ -0,0 +1,192 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A hash map keyed by {@code StudentId}, storing the packed key of each student ID in a primitive array.
+ * Uses open addressing with linear probing, so lookups neither box keys nor allocate entries.
+ * Does not allow null values.
+ *
+ * @param <V> the type of the mapped values.
+ */
+public class StudentIdMap<V> {
+
+    private static final int NO_KEY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public StudentIdMap() {
+        keys = newKeys(INITIAL_CAPACITY);
+        values = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a map with the same mappings as {@code toBeCopied}.
+     */
+    public StudentIdMap(StudentIdMap<V> toBeCopied) {
+        requireNonNull(toBeCopied);
+        keys = toBeCopied.keys.clone();
+        values = toBeCopied.values.clone();
+        size = toBeCopied.size;
+    }
+
+    /**
+     * Returns the value mapped to {@code studentId}, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(StudentId studentId) {
+        requireNonNull(studentId);
+        int slot = find(studentId.getKey());
+        return keys[slot] == NO_KEY ? null : (V) values[slot];
+    }
+
+    /**
+     * Returns true if a value is mapped to {@code studentId}.
+     */
+    public boolean containsKey(StudentId studentId) {
+        requireNonNull(studentId);
+        return keys[find(studentId.getKey())] != NO_KEY;
+    }
+
+    /**
+     * Maps {@code studentId} to {@code value}, returning the previously mapped value, or null if there was none.
+     */
+    public V put(StudentId studentId, V value) {
+        requireNonNull(studentId);
+        requireNonNull(value);
+        return insert(studentId.getKey(), value, true);
+    }
+
+    /**
+     * Maps {@code studentId} to {@code value} if no value is mapped to it yet.
+     * Returns the value already mapped to {@code studentId}, or null if {@code value} was added.
+     */
+    public V putIfAbsent(StudentId studentId, V value) {
+        requireNonNull(studentId);
+        requireNonNull(value);
+        return insert(studentId.getKey(), value, false);
+    }
+
+    /**
+     * Removes the value mapped to {@code studentId}, returning it, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(StudentId studentId) {
+        requireNonNull(studentId);
+        int slot = find(studentId.getKey());
+        if (keys[slot] == NO_KEY) {
+            return null;
+        }
+        V removed = (V) values[slot];
+        size--;
+
+        // Shift later entries of the probe sequence back, so that no lookup stops early at the freed slot
+        int mask = keys.length - 1;
+        int free = slot;
+        for (int next = (free + 1) & mask; keys[next] != NO_KEY; next = (next + 1) & mask) {
+            int home = home(keys[next], mask);
+            boolean isReachableFromFree = free <= next ? (home <= free || home > next) : (home <= free && home > next);
+            if (isReachableFromFree) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+        }
+        keys[free] = NO_KEY;
+        values[free] = null;
+        return removed;
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    public void clear() {
+        Arrays.fill(keys, NO_KEY);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Replaces the mappings of this map with those of {@code replacement}.
+     */
+    public void setAll(StudentIdMap<V> replacement) {
+        requireNonNull(replacement);
+        keys = replacement.keys.clone();
+        values = replacement.values.clone();
+        size = replacement.size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V insert(int key, V value, boolean isReplacing) {
+        int slot = find(key);
+        if (keys[slot] != NO_KEY) {
+            V previous = (V) values[slot];
+            if (isReplacing) {
+                values[slot] = value;
+            }
+            return previous;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the empty slot where it would be inserted.
+     */
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int slot = home(key, mask);
+        while (keys[slot] != NO_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = newKeys(capacity);
+        values = new Object[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != NO_KEY) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int home(int key, int mask) {
+        // Spread consecutive keys, which share their low bits modulo 26, across the table
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int[] newKeys(int capacity) {
+        int[] keys = new int[capacity];
+        Arrays.fill(keys, NO_KEY);
+        return keys;
+    }
+}
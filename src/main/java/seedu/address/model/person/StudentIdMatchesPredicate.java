@@ -33,7 +33,7 @@ public class StudentIdMatchesPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         // Compare the cleaned input with the person's student ID, ignoring case
-        String personId = person.getStudentId().value.toUpperCase();
+        String personId = person.getStudentId().getValue().toUpperCase();
         return studentIds.contains(personId);
     }
 
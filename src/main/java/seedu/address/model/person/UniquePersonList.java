@@ -5,9 +5,11 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +20,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since two persons share an identity exactly when they share a {@code StudentId}, the list also keeps a
+ * {@code StudentId} to {@code Person} index in sync with the backing list, so that identity checks and lookups
+ * do not need to scan the whole list, along with the position of each person, so that neither do edits and removals.
+ * It also keeps a {@code PersistentList} copy of its contents, so that snapshots can be taken without copying.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +34,24 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final StudentIdMap<Person> studentIdIndex = new StudentIdMap<>();
+    private final PersonPositions positions = new PersonPositions();
+    private PersistentList<Person> persistentPersons = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return studentIdIndex.containsKey(toCheck.getStudentId());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code studentId}, if any.
+     */
+    public Optional<Person> findByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return Optional.ofNullable(studentIdIndex.get(studentId));
     }
 
     /**
@@ -45,7 +63,34 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.reserve(internalList, 1);
         internalList.add(toAdd);
+        studentIdIndex.put(toAdd.getStudentId(), toAdd);
+        positions.add(toAdd.getStudentId());
+        persistentPersons = persistentPersons.plus(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, as a single change to the list.
+     * None of the persons may already exist in the list, nor appear more than once in {@code toAdd}; if any does,
+     * the list is left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        indexByStudentId(toAdd);
+        for (Person person : toAdd) {
+            if (contains(person)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        positions.reserve(internalList, toAdd.size());
+        internalList.addAll(toAdd);
+        for (Person person : toAdd) {
+            studentIdIndex.put(person.getStudentId(), person);
+            positions.add(person.getStudentId());
+            persistentPersons = persistentPersons.plus(person);
+        }
     }
 
     /**
@@ -56,8 +101,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person existing = studentIdIndex.get(target.getStudentId());
+        if (existing == null || !existing.equals(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +110,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = positions.positionOf(existing.getStudentId());
         internalList.set(index, editedPerson);
+        persistentPersons = persistentPersons.with(index, editedPerson);
+        studentIdIndex.remove(existing.getStudentId());
+        studentIdIndex.put(editedPerson.getStudentId(), editedPerson);
+        positions.replace(existing.getStudentId(), editedPerson.getStudentId());
     }
 
     /**
@@ -74,14 +124,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = studentIdIndex.get(toRemove.getStudentId());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+        int index = positions.remove(existing.getStudentId());
+        internalList.remove(index);
+        persistentPersons = persistentPersons.minus(index);
+        studentIdIndex.remove(existing.getStudentId());
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        studentIdIndex.setAll(replacement.studentIdIndex);
+        positions.setAll(replacement.positions);
+        persistentPersons = replacement.persistentPersons;
     }
 
     /**
@@ -90,11 +151,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        StudentIdMap<Person> replacementIndex = indexByStudentId(persons);
 
         internalList.setAll(persons);
+        studentIdIndex.setAll(replacementIndex);
+        positions.setAll(persons);
+        persistentPersons = PersistentList.of(persons);
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this list, in O(1) time.
+     * Later changes to this list are not reflected in the returned list.
+     */
+    public PersistentList<Person> snapshot() {
+        return persistentPersons;
     }
 
     /**
@@ -135,16 +205,17 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a {@code StudentId} index of {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static StudentIdMap<Person> indexByStudentId(List<Person> persons) {
+        StudentIdMap<Person> index = new StudentIdMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getStudentId(), person) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's Year in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidYear(String)}
@@ -12,6 +14,7 @@ public class Year {
             + " or spaces. Example: '1', '5'";
     public static final String VALIDATION_REGEX = "[1-9]\\d*";
     private static final Year EMPTY_YEAR = new Year();
+    private static final Interner<Year> YEARS = new Interner<>(Year::new);
 
     public final String value;
 
@@ -35,7 +38,8 @@ public class Year {
     }
 
     /**
-     * Constructs a {@code Year} or returns an empty {@code Year} instance.
+     * Returns the canonical {@code Year} for the given value, or the empty {@code Year} instance.
+     * Equal years made through this method are the same instance.
      *
      * @param year A valid year or an empty string
      */
@@ -46,7 +50,7 @@ public class Year {
             return EMPTY_YEAR;
         }
 
-        return new Year(year);
+        return YEARS.intern(year);
     }
 
     /**
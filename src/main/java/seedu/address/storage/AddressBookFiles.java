@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.StreamWriter;
+import seedu.address.commons.util.MappedFileInputStream;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+
+/**
+ * Reads address book files in any {@link AddressBookFormat}, telling the formats apart by their first bytes.
+ * This lets every {@code AddressBookStorage} load a file saved in another format, and so convert it to its own
+ * format the next time it saves. Files compressed by {@link DeflateCompression} are decompressed as they are read.
+ */
+class AddressBookFiles {
+
+    /**
+     * Files at least this large are read through a memory mapping rather than a heap buffer, where the file can still
+     * be replaced while mapped.
+     */
+    static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Returns the format of the address book file at {@code filePath}, whether or not it is compressed.
+     */
+    public static AddressBookFormat detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return formatOf(DeflateCompression.hasHeader(in) ? DeflateCompression.decompress(in) : in);
+        }
+    }
+
+    /**
+     * Returns true if the address book file at {@code filePath} is compressed.
+     */
+    public static boolean isCompressed(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return DeflateCompression.hasHeader(in);
+        }
+    }
+
+    /**
+     * Returns the journal epoch at the start of the address book file at {@code filePath}, whether or not it is
+     * compressed, as written by {@link JsonAddressBookWriter}.
+     *
+     * @return the epoch, or empty if the file is not in JSON or does not start with one.
+     */
+    public static Optional<Long> readJournalEpoch(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            InputStream data = DeflateCompression.hasHeader(in) ? DeflateCompression.decompress(in) : in;
+            if (formatOf(data) != AddressBookFormat.JSON) {
+                return Optional.empty();
+            }
+            return JsonAddressBookReader.readJournalEpoch(data);
+        }
+    }
+
+    /**
+     * Writes the output of {@code writer} to the file at {@code filePath} as {@link FileUtil#writeAtomically} does,
+     * compressing it if {@code isCompressed} is true.
+     */
+    public static void write(Path filePath, boolean isCompressed, StreamWriter writer) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+        if (isCompressed) {
+            FileUtil.writeAtomically(filePath, out -> DeflateCompression.write(out, writer));
+        } else {
+            FileUtil.writeAtomically(filePath, writer);
+        }
+    }
+
+    /**
+     * Reads the address book file at {@code filePath}, in whichever format it is.
+     *
+     * @throws IOException if the file could not be read, or is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (InputStream in = open(filePath)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads an address book from {@code in}, in whichever format it is and whether or not it is compressed.
+     * {@code in} must support marks.
+     *
+     * @throws IOException if {@code in} could not be read, or is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        if (DeflateCompression.hasHeader(in)) {
+            try (InputStream decompressed = DeflateCompression.decompress(in)) {
+                return read(decompressed);
+            }
+        }
+        switch (formatOf(in)) {
+        case BINARY:
+            return BinaryAddressBookFormat.read(in);
+        default:
+            return JsonAddressBookReader.read(in);
+        }
+    }
+
+    /**
+     * Opens the file at {@code filePath} for reading from start to end. Large files are memory-mapped, so that their
+     * records are decoded straight from the mapped pages instead of being copied through a heap buffer, unless a
+     * mapping would stop the next save from replacing the file.
+     */
+    private static InputStream open(Path filePath) throws IOException {
+        if (MappedFileInputStream.canReplaceMappedFiles() && Files.size(filePath) >= MAPPED_READ_THRESHOLD) {
+            return new MappedFileInputStream(filePath);
+        }
+        return new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+    }
+
+    private static AddressBookFormat formatOf(InputStream in) throws IOException {
+        return BinaryAddressBookFormat.hasHeader(in) ? AddressBookFormat.BINARY : AddressBookFormat.JSON;
+    }
+}
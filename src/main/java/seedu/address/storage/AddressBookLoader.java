@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Builds an address book from records read from storage, converting each batch of records to model types in
+ * parallel on the common fork-join pool. Duplicates are found with hash sets as the converted records are merged in
+ * their original order, and the persons are added to the address book all at once.
+ *
+ * Errors are reported as if the records were converted one at a time: the error thrown is that of the first record,
+ * in the order the records were added, that is invalid or a duplicate.
+ */
+class AddressBookLoader {
+
+    /** The number of records that readers should hold before converting them. */
+    public static final int BATCH_SIZE = 4096;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<StudentId> studentIds = new HashSet<>();
+    private final List<AttendanceEvent> attendanceEvents = new ArrayList<>();
+    private final Set<String> eventNames = new HashSet<>();
+
+    /**
+     * Converts {@code records} to persons in parallel, and adds them after the persons already added.
+     *
+     * @throws IllegalValueException if a record is invalid, or is a person already added.
+     */
+    public <S> void addPersons(List<S> records, Conversion<S, Person> conversion) throws IllegalValueException {
+        convertInOrder(records, conversion, person -> {
+            if (!studentIds.add(person.getStudentId())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        });
+    }
+
+    /**
+     * Converts {@code records} to attendance events in parallel, and adds them after the events already added.
+     *
+     * @throws IllegalValueException if a record is invalid, or is an event already added.
+     */
+    public <S> void addAttendanceEvents(List<S> records, Conversion<S, AttendanceEvent> conversion)
+            throws IllegalValueException {
+        convertInOrder(records, conversion, event -> {
+            if (!eventNames.add(event.getEventName().toLowerCase())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE_EVENT);
+            }
+            attendanceEvents.add(event);
+        });
+    }
+
+    /**
+     * Returns an address book of the persons and attendance events added.
+     */
+    public AddressBook toAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        attendanceEvents.forEach(addressBook::addAttendanceEvent);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code records} in parallel, then passes the results to {@code merge} in order, up to the first record
+     * that could not be converted.
+     */
+    private static <S, T> void convertInOrder(List<S> records, Conversion<S, T> conversion, Merge<T> merge)
+            throws IllegalValueException {
+        Object[] results = new Object[records.size()];
+        IllegalValueException[] errors = new IllegalValueException[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                results[i] = conversion.convert(records.get(i));
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        for (int i = 0; i < results.length; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            @SuppressWarnings("unchecked")
+            T result = (T) results[i];
+            merge.accept(result);
+        }
+    }
+
+    /**
+     * Converts a record read from storage to a model type.
+     */
+    @FunctionalInterface
+    public interface Conversion<S, T> {
+        /**
+         * Returns the model type of {@code record}.
+         *
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        T convert(S record) throws IllegalValueException;
+    }
+
+    /**
+     * Merges a converted record into the records converted before it.
+     */
+    @FunctionalInterface
+    private interface Merge<T> {
+        void accept(T result) throws IllegalValueException;
+    }
+}
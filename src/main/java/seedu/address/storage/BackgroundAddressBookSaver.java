@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.exceptions.AttendanceLoadingException;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ * A save waits for {@code saveDelayMillis} before it starts, and address books submitted in the meantime replace the
+ * waiting one, so that a burst of changes is written once. Address books submitted must not change afterwards,
+ * e.g. they should be snapshots of the model.
+ */
+public class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService executor;
+    private volatile Consumer<IOException> failureHandler = unused -> {};
+
+    /** The latest address book submitted that is not yet being saved, or null if there is none. */
+    private ReadOnlyAddressBook pendingAddressBook;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that saves to {@code addressBookStorage}, collecting changes for
+     * {@code saveDelayMillis} milliseconds before each save.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage addressBookStorage, long saveDelayMillis) {
+        requireNonNull(addressBookStorage);
+        checkArgument(saveDelayMillis >= 0);
+        this.addressBookStorage = addressBookStorage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler called, on the background thread, when a save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any address book still waiting to be saved.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        boolean isSaveScheduled = pendingAddressBook != null;
+        pendingAddressBook = addressBook;
+        if (!isSaveScheduled) {
+            executor.schedule(this::savePendingAddressBook, saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if any, without further delay.
+     * Returns once it and any save already in progress have finished.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::savePendingAddressBook).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Unexpected error while saving address book: " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    /**
+     * Flushes any address book waiting to be saved, and stops the background thread.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void savePendingAddressBook() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+        }
+        if (addressBook == null) {
+            // Already saved by an earlier flush
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        } catch (AttendanceLoadingException e) {
+            // The records of an unchanged event could not be read back from the data files to be written again
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            failureHandler.accept(new IOException(e.getMessage(), e));
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.group.Group;
+import seedu.address.model.list.GroupList;
+import seedu.address.model.person.Comment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.StudentIdMap;
+import seedu.address.model.person.Year;
+
+/**
+ * Reads and writes address books in a compact, versioned binary format. A file holds, in order:
+ * <ol>
+ *     <li>the bytes {@code ABKB} and the format version;</li>
+ *     <li>a dictionary of the distinct majors, years and group names, which persons refer to by index;</li>
+ *     <li>the persons, each as a packed student ID, name, email, dictionary indices and comment;</li>
+ *     <li>the student IDs with attendance records that belong to no person;</li>
+ *     <li>the attendance events, each as a name and two bitmaps, of marked and of present students, indexed by
+ *     position among the persons followed by the other students.</li>
+ * </ol>
+ * Counts, lengths and indices are unsigned variable-length integers, and strings are length-prefixed UTF-8.
+ * Converting an address book to this format and back loses nothing that {@link JsonSerializableAddressBook} keeps.
+ */
+class BinaryAddressBookFormat {
+
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book has unsupported version %d.";
+    public static final String MESSAGE_NOT_BINARY = "Data is not a binary address book.";
+    public static final String MESSAGE_CORRUPT = "Binary address book is corrupt: %s";
+
+    private static final byte[] MAGIC = {'A', 'B', 'K', 'B'};
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Limits the sizes read, so that a corrupt size cannot exhaust memory. */
+    private static final int MAX_LENGTH = 16 * 1024 * 1024;
+
+    /**
+     * Returns true if {@code in} starts with the header of this format, without consuming any of it.
+     * {@code in} must support {@link InputStream#mark(int)}.
+     */
+    public static boolean hasHeader(InputStream in) throws IOException {
+        requireNonNull(in);
+        in.mark(MAGIC.length);
+        try {
+            byte[] header = new byte[MAGIC.length];
+            int read = 0;
+            while (read < header.length) {
+                int count = in.read(header, read, header.length - read);
+                if (count < 0) {
+                    return false;
+                }
+                read += count;
+            }
+            return Arrays.equals(MAGIC, header);
+        } finally {
+            in.reset();
+        }
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code addressBook} to {@code out}, and closes it.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+        try (DataOutputStream data = new DataOutputStream(out)) {
+            data.write(MAGIC);
+            writeVarInt(data, VERSION);
+
+            List<Person> persons = addressBook.getPersonList();
+            Map<String, Integer> dictionary = buildDictionary(persons);
+            writeVarInt(data, dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                writeString(data, entry);
+            }
+
+            StudentIdMap<Integer> indices = new StudentIdMap<>();
+            writeVarInt(data, persons.size());
+            for (Person person : persons) {
+                indices.put(person.getStudentId(), indices.size());
+                writePerson(data, person, dictionary);
+            }
+
+            List<StudentId> otherStudents = new ArrayList<>();
+            for (AttendanceEvent event : addressBook.getAttendanceEventList()) {
+                for (StudentId studentId : event.getAttendanceRecords().keySet()) {
+                    if (indices.putIfAbsent(studentId, indices.size()) == null) {
+                        otherStudents.add(studentId);
+                    }
+                }
+            }
+            writeVarInt(data, otherStudents.size());
+            for (StudentId studentId : otherStudents) {
+                data.writeInt(studentId.getKey());
+            }
+
+            writeVarInt(data, addressBook.getAttendanceEventList().size());
+            for (AttendanceEvent event : addressBook.getAttendanceEventList()) {
+                writeAttendanceEvent(data, event, indices);
+            }
+        }
+    }
+
+    private static Map<String, Integer> buildDictionary(List<Person> persons) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            dictionary.putIfAbsent(person.getMajor().value, dictionary.size());
+            dictionary.putIfAbsent(person.getYear().value, dictionary.size());
+            for (Group group : person.getGroups()) {
+                dictionary.putIfAbsent(group.getGroupName(), dictionary.size());
+            }
+        }
+        return dictionary;
+    }
+
+    private static void writePerson(DataOutputStream data, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        data.writeInt(person.getStudentId().getKey());
+        writeString(data, person.getName().fullName);
+        writeString(data, person.getEmail().value);
+        writeVarInt(data, dictionary.get(person.getMajor().value));
+        writeVarInt(data, dictionary.get(person.getYear().value));
+        writeVarInt(data, person.getGroups().size());
+        for (Group group : person.getGroups()) {
+            writeVarInt(data, dictionary.get(group.getGroupName()));
+        }
+        writeString(data, person.getComment().value);
+    }
+
+    private static void writeAttendanceEvent(DataOutputStream data, AttendanceEvent event,
+            StudentIdMap<Integer> indices) throws IOException {
+        BitSet marked = new BitSet(indices.size());
+        BitSet present = new BitSet(indices.size());
+        for (Map.Entry<StudentId, Boolean> record : event.getAttendanceRecords().entrySet()) {
+            int index = indices.get(record.getKey());
+            marked.set(index);
+            present.set(index, record.getValue());
+        }
+
+        writeString(data, event.getEventName());
+        writeBitmap(data, marked);
+        writeBitmap(data, present);
+    }
+
+    private static void writeBitmap(DataOutputStream data, BitSet bitmap) throws IOException {
+        long[] words = bitmap.toLongArray();
+        writeVarInt(data, words.length);
+        for (long word : words) {
+            data.writeLong(word);
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            data.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        data.writeByte(remaining);
+    }
+
+    //// reading
+
+    /**
+     * Reads an address book from {@code in}, and closes it.
+     *
+     * @throws IOException if {@code in} could not be read or ends early.
+     * @throws IllegalValueException if {@code in} is not in this format, or there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE))) {
+            byte[] header = new byte[MAGIC.length];
+            data.readFully(header);
+            if (!Arrays.equals(MAGIC, header)) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY);
+            }
+            int version = readVarInt(data);
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            Dictionary dictionary = new Dictionary(readVarInt(data));
+            for (int i = 0; i < dictionary.size(); i++) {
+                dictionary.entries[i] = readString(data);
+            }
+
+            // Persons are decoded in order, and validated in parallel a batch at a time
+            AddressBookLoader loader = new AddressBookLoader();
+            int personCount = readVarInt(data);
+            List<StudentId> students = new ArrayList<>(Math.min(personCount, MAX_LENGTH));
+            List<DecodedPerson> batch = new ArrayList<>(AddressBookLoader.BATCH_SIZE);
+            for (int i = 0; i < personCount; i++) {
+                try {
+                    batch.add(readPerson(data, dictionary));
+                } catch (IllegalValueException ive) {
+                    // Errors in the persons before this one are reported first
+                    loader.addPersons(batch, DecodedPerson::toModelType);
+                    throw ive;
+                }
+                students.add(batch.get(batch.size() - 1).studentId);
+                if (batch.size() == AddressBookLoader.BATCH_SIZE) {
+                    loader.addPersons(batch, DecodedPerson::toModelType);
+                    batch.clear();
+                }
+            }
+            loader.addPersons(batch, DecodedPerson::toModelType);
+
+            int otherStudentCount = readVarInt(data);
+            for (int i = 0; i < otherStudentCount; i++) {
+                students.add(readStudentId(data));
+            }
+
+            int eventCount = readVarInt(data);
+            List<AttendanceEvent> events = new ArrayList<>();
+            for (int i = 0; i < eventCount; i++) {
+                events.add(readAttendanceEvent(data, students));
+            }
+            loader.addAttendanceEvents(events, event -> event);
+            return loader.toAddressBook();
+        }
+    }
+
+    /**
+     * Decodes a person, leaving the validation of its name and email to {@link DecodedPerson#toModelType()}.
+     */
+    private static DecodedPerson readPerson(DataInputStream data, Dictionary dictionary)
+            throws IOException, IllegalValueException {
+        StudentId studentId = readStudentId(data);
+        String name = readString(data);
+        String email = readString(data);
+        Major major = dictionary.getMajor(readVarInt(data));
+        Year year = dictionary.getYear(readVarInt(data));
+        GroupList groups = new GroupList();
+        int groupCount = readVarInt(data);
+        for (int i = 0; i < groupCount; i++) {
+            groups.addGroup(dictionary.getGroup(readVarInt(data)));
+        }
+        String comment = readString(data);
+        return new DecodedPerson(studentId, name, email, major, year, groups, comment);
+    }
+
+    private static StudentId readStudentId(DataInputStream data) throws IOException, IllegalValueException {
+        int key = data.readInt();
+        if (!StudentId.isValidKey(key)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        return StudentId.fromKey(key);
+    }
+
+    private static AttendanceEvent readAttendanceEvent(DataInputStream data, List<StudentId> students)
+            throws IOException, IllegalValueException {
+        String eventName = readString(data);
+        BitSet marked = readBitmap(data);
+        BitSet present = readBitmap(data);
+        if (marked.length() > students.size() || present.length() > students.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "attendance of unknown student"));
+        }
+
+        AttendanceEvent event = new AttendanceEvent(eventName);
+        for (int i = marked.nextSetBit(0); i >= 0; i = marked.nextSetBit(i + 1)) {
+            event.markAttendance(students.get(i), present.get(i));
+        }
+        return event;
+    }
+
+    private static BitSet readBitmap(DataInputStream data) throws IOException {
+        long[] words = new long[readLength(data, Long.BYTES)];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = data.readLong();
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[readLength(data, 1)];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the number of items of {@code itemBytes} bytes each that follow.
+     */
+    private static int readLength(DataInputStream data, int itemBytes) throws IOException {
+        int length = readVarInt(data);
+        if ((long) length * itemBytes > MAX_LENGTH) {
+            throw new IOException(String.format(MESSAGE_CORRUPT, "length " + length + " is too large"));
+        }
+        return length;
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int next = data.readUnsignedByte();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                if (shift == 28 && next > 0x07) {
+                    // Larger than any non-negative int
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException(String.format(MESSAGE_CORRUPT, "invalid number"));
+    }
+
+    /**
+     * A person as decoded from a binary address book, whose name and email are yet to be validated.
+     */
+    private static class DecodedPerson {
+        private final StudentId studentId;
+        private final String name;
+        private final String email;
+        private final Major major;
+        private final Year year;
+        private final GroupList groups;
+        private final String comment;
+
+        DecodedPerson(StudentId studentId, String name, String email, Major major, Year year, GroupList groups,
+                String comment) {
+            this.studentId = studentId;
+            this.name = name;
+            this.email = email;
+            this.major = major;
+            this.year = year;
+            this.groups = groups;
+            this.comment = comment;
+        }
+
+        Person toModelType() throws IllegalValueException {
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            if (!Email.isValidEmail(email) && !email.isEmpty()) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+            return new Person(new Name(name), studentId, Email.makeEmail(email), major, groups, year,
+                    new Comment(comment));
+        }
+    }
+
+    /**
+     * The dictionary of a binary address book, which converts each entry to a major, year or group at most once.
+     */
+    private static class Dictionary {
+        private final String[] entries;
+        private final Major[] majors;
+        private final Year[] years;
+        private final Group[] groups;
+
+        Dictionary(int size) throws IOException {
+            if (size > MAX_LENGTH) {
+                throw new IOException(String.format(MESSAGE_CORRUPT, "dictionary is too large"));
+            }
+            entries = new String[size];
+            majors = new Major[size];
+            years = new Year[size];
+            groups = new Group[size];
+        }
+
+        int size() {
+            return entries.length;
+        }
+
+        Major getMajor(int index) throws IllegalValueException {
+            if (majors[checkIndex(index)] == null) {
+                String major = entries[index];
+                if (!Major.isValidMajor(major) && !major.isEmpty()) {
+                    throw new IllegalValueException(Major.MESSAGE_CONSTRAINTS);
+                }
+                majors[index] = Major.makeMajor(major);
+            }
+            return majors[index];
+        }
+
+        Year getYear(int index) throws IllegalValueException {
+            if (years[checkIndex(index)] == null) {
+                String year = entries[index];
+                if (!Year.isValidYear(year) && !year.isEmpty()) {
+                    throw new IllegalValueException(Year.MESSAGE_CONSTRAINTS);
+                }
+                years[index] = Year.makeYear(year);
+            }
+            return years[index];
+        }
+
+        Group getGroup(int index) throws IllegalValueException {
+            if (groups[checkIndex(index)] == null) {
+                String groupName = entries[index];
+                if (!Group.isValidGroupName(groupName)) {
+                    throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
+                }
+                groups[index] = Group.makeGroup(groupName);
+            }
+            return groups[index];
+        }
+
+        private int checkIndex(int index) throws IllegalValueException {
+            if (index >= entries.length) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT, "unknown dictionary entry " + index));
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the format of {@link BinaryAddressBookFormat} on the hard disk.
+ * JSON data files are also read, and are converted to this format the next time the address book is saved.
+ * The file is compressed by {@link DeflateCompression} if the storage is created to do so, and is read whether or
+ * not it is compressed.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private Path filePath;
+    private final boolean isCompressed;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage that compresses the file it saves if {@code isCompressed} is true.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isCompressed) {
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        // The data may have been last saved by a storage of another format, as a checkpoint with a journal of later
+        // changes or as shards, which a journaled storage reads in full. The next save converts it to this format.
+        return new JournaledAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookFiles.write(filePath, isCompressed, out -> BinaryAddressBookFormat.write(addressBook, out));
+        // The data file now holds the changes in any journal of it, and is newer than any shards of it
+        Files.deleteIfExists(JournaledAddressBookStorage.getJournalFilePath(filePath));
+        ShardedAddressBookStorage.retireShards(filePath);
+    }
+
+}
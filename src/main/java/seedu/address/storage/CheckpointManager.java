@@ -0,0 +1,395 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.StudentIdMap;
+
+/**
+ * Keeps a number of rotating checkpoints of the address book in a folder, from which the newest one that is intact
+ * can be restored. Each checkpoint is a file {@code checkpoint-<n>.abkc}, numbered in the order written, which holds:
+ * <ol>
+ *     <li>the bytes {@code ABKC} and the format version;</li>
+ *     <li>sections of compact JSON in the format of {@link JsonSerializableAddressBook}, each holding a chunk of
+ *     persons or a single attendance event, and each preceded by its type, length and CRC-32 checksum;</li>
+ *     <li>an end marker and the number of sections.</li>
+ * </ol>
+ * A checkpoint is valid only if it is complete and every section matches its checksum.
+ *
+ * The sections of the last checkpoint written are kept, and sections whose data is unchanged are copied into the
+ * next checkpoint as they are, so that only changed chunks of persons and changed events are serialized again.
+ * A chunk of persons ends after a person whose student ID is a section boundary, rather than at a fixed position, so
+ * that adding or removing a person changes only the chunk holding it, and later chunks can still be copied.
+ */
+public class CheckpointManager {
+
+    public static final int VERSION = 1;
+    public static final String CHECKPOINT_FILE_PREFIX = "checkpoint-";
+    public static final String CHECKPOINT_FILE_SUFFIX = ".abkc";
+
+    public static final String MESSAGE_NOT_CHECKPOINT = "Data is not an address book checkpoint.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Checkpoint has unsupported version %d.";
+    public static final String MESSAGE_CORRUPT = "Checkpoint is corrupt: %s";
+
+    /** The average number of persons in each section of persons, as about one in this many student IDs ends one. */
+    static final int PERSONS_PER_SECTION = 1024;
+    /** The most persons in a section, which ends there even if its last student ID is not a boundary. */
+    static final int MAX_PERSONS_PER_SECTION = 4 * PERSONS_PER_SECTION;
+
+    private static final byte[] MAGIC = {'A', 'B', 'K', 'C'};
+    private static final int END_SECTION = 0;
+    private static final int PERSONS_SECTION = 1;
+    private static final int EVENT_SECTION = 2;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(CheckpointManager.class);
+
+    private final Path folder;
+    private final int checkpointCount;
+
+    // The sections of the last checkpoint written, against which changes are found
+    private final StudentIdMap<PersonsSection> savedPersonSections = new StudentIdMap<>();
+    private final Map<String, EventSection> savedEventSections = new HashMap<>();
+    private long nextCheckpointNumber = -1;
+
+    /**
+     * Creates a manager that keeps the newest {@code checkpointCount} checkpoints in {@code folder}.
+     */
+    public CheckpointManager(Path folder, int checkpointCount) {
+        requireNonNull(folder);
+        checkArgument(checkpointCount > 0, "Checkpoint count must be positive");
+        this.folder = folder;
+        this.checkpointCount = checkpointCount;
+    }
+
+    public Path getFolder() {
+        return folder;
+    }
+
+    /**
+     * Writes {@code addressBook} as a new checkpoint, and deletes the checkpoints older than the newest
+     * {@code checkpointCount}.
+     *
+     * @return the number of sections copied unchanged from the last checkpoint written.
+     */
+    public int writeCheckpoint(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (nextCheckpointNumber < 0) {
+            List<Long> numbers = listCheckpointNumbers();
+            nextCheckpointNumber = numbers.isEmpty() ? 0 : numbers.get(0) + 1;
+        }
+
+        List<Section> sections = new ArrayList<>();
+        int reusedCount = updatePersonSections(addressBook.getPersonList(), sections)
+                + updateEventSections(addressBook.getAttendanceEventList(), sections);
+
+        long number = nextCheckpointNumber;
+        FileUtil.writeAtomically(getCheckpointPath(number), out -> write(sections, out));
+        nextCheckpointNumber++;
+        logger.fine("Wrote checkpoint " + number + " reusing " + reusedCount + " of " + sections.size()
+                + " sections");
+
+        for (long oldNumber : listCheckpointNumbers()) {
+            if (oldNumber <= number - checkpointCount) {
+                Files.deleteIfExists(getCheckpointPath(oldNumber));
+            }
+        }
+        return reusedCount;
+    }
+
+    /**
+     * Returns the address book in the newest valid checkpoint, or an empty {@code Optional} if none of the newest
+     * {@code checkpointCount} checkpoints is valid. Checkpoints found invalid are logged and skipped.
+     */
+    public Optional<AddressBook> restoreLatest() throws IOException {
+        List<Long> numbers = listCheckpointNumbers();
+        for (long number : numbers.subList(0, Math.min(checkpointCount, numbers.size()))) {
+            Path path = getCheckpointPath(number);
+            try {
+                AddressBook addressBook = read(path);
+                logger.info("Restored address book from checkpoint " + path);
+                return Optional.of(addressBook);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Skipping invalid checkpoint " + path + ": " + e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the address book in the checkpoint file at {@code path}.
+     *
+     * @throws IOException if the file could not be read, or is incomplete or corrupt.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path path) throws IOException, IllegalValueException {
+        requireNonNull(path);
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            return read(in);
+        }
+    }
+
+    private static AddressBook read(DataInputStream in) throws IOException, IllegalValueException {
+        byte[] magic = new byte[MAGIC.length];
+        int version;
+        try {
+            in.readFully(magic);
+            version = in.readInt();
+        } catch (EOFException e) {
+            throw new IOException(MESSAGE_NOT_CHECKPOINT);
+        }
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IOException(MESSAGE_NOT_CHECKPOINT);
+        }
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        // Every section is verified before any is converted, so that a corrupt checkpoint fails fast
+        List<byte[]> payloads = new ArrayList<>();
+        try {
+            int type;
+            while ((type = in.readUnsignedByte()) != END_SECTION) {
+                if (type != PERSONS_SECTION && type != EVENT_SECTION) {
+                    throw new IOException(String.format(MESSAGE_CORRUPT, "unknown section type " + type));
+                }
+                int length = in.readInt();
+                int checksum = in.readInt();
+                if (length < 0) {
+                    throw new IOException(String.format(MESSAGE_CORRUPT, "invalid section length " + length));
+                }
+                // Reads no more than the file holds, however large a corrupt length is
+                byte[] payload = in.readNBytes(length);
+                if (payload.length != length || checksumOf(payload) != checksum) {
+                    throw new IOException(String.format(MESSAGE_CORRUPT, "section " + payloads.size()
+                            + " does not match its checksum"));
+                }
+                payloads.add(payload);
+            }
+            if (in.readInt() != payloads.size()) {
+                throw new IOException(String.format(MESSAGE_CORRUPT, "section count does not match"));
+            }
+        } catch (EOFException e) {
+            throw new IOException(String.format(MESSAGE_CORRUPT, "file is incomplete"));
+        }
+
+        AddressBookLoader loader = new AddressBookLoader();
+        for (byte[] payload : payloads) {
+            JsonAddressBookReader.read(new ByteArrayInputStream(payload), loader);
+        }
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Adds the sections of {@code persons} to {@code sections}, reusing the saved section of each chunk of persons
+     * that is unchanged, and remembers the sections instead. Saved sections are found by the student ID of their
+     * first person, so a chunk is reused wherever it now is in the list.
+     * Persons are compared by identity, as the model replaces, rather than changes, a person that is edited.
+     *
+     * @return the number of sections reused.
+     */
+    private int updatePersonSections(List<Person> persons, List<Section> sections) throws IOException {
+        StudentIdMap<PersonsSection> newSections = new StudentIdMap<>();
+        int reusedCount = 0;
+        int start = 0;
+        while (start < persons.size()) {
+            int end = start + 1;
+            while (end < persons.size() && end - start < MAX_PERSONS_PER_SECTION
+                    && !isSectionBoundary(persons.get(end - 1).getStudentId())) {
+                end++;
+            }
+
+            List<Person> chunk = persons.subList(start, end);
+            StudentId firstId = chunk.get(0).getStudentId();
+            PersonsSection section = savedPersonSections.get(firstId);
+            if (section != null && section.isSameChunk(chunk)) {
+                reusedCount++;
+            } else {
+                section = new PersonsSection(chunk);
+            }
+            newSections.put(firstId, section);
+            sections.add(section);
+            start = end;
+        }
+        savedPersonSections.setAll(newSections);
+        return reusedCount;
+    }
+
+    /**
+     * Returns true if a chunk of persons ends after the person with {@code studentId}. About one in
+     * {@link #PERSONS_PER_SECTION} student IDs is a boundary, spread evenly by a multiplicative hash of its key.
+     */
+    static boolean isSectionBoundary(StudentId studentId) {
+        int hash = studentId.getKey() * 0x9E3779B1;
+        return Integer.compareUnsigned(hash, (int) ((1L << Integer.SIZE) / PERSONS_PER_SECTION)) < 0;
+    }
+
+    /**
+     * Adds a section for each of {@code events} to {@code sections}, reusing the saved section of each event that is
+     * unchanged, and remembers the sections instead.
+     *
+     * @return the number of sections reused.
+     */
+    private int updateEventSections(List<AttendanceEvent> events, List<Section> sections) throws IOException {
+        Map<String, EventSection> newSections = new HashMap<>();
+        int reusedCount = 0;
+        for (AttendanceEvent event : events) {
+            String key = event.getEventName().toLowerCase();
+            EventSection saved = savedEventSections.get(key);
+            EventSection section;
+            if (saved != null && saved.isSameEvent(event)) {
+                section = saved;
+                reusedCount++;
+            } else {
+                section = new EventSection(event);
+            }
+            newSections.put(key, section);
+            sections.add(section);
+        }
+        savedEventSections.clear();
+        savedEventSections.putAll(newSections);
+        return reusedCount;
+    }
+
+    private static void write(List<Section> sections, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeInt(VERSION);
+        for (Section section : sections) {
+            data.writeByte(section.type);
+            data.writeInt(section.payload.length);
+            data.writeInt(section.checksum);
+            data.write(section.payload);
+        }
+        data.writeByte(END_SECTION);
+        data.writeInt(sections.size());
+        data.flush();
+    }
+
+    /**
+     * Returns the numbers of the checkpoints in the folder, newest first.
+     */
+    private List<Long> listCheckpointNumbers() throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        if (!Files.isDirectory(folder)) {
+            return numbers;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder,
+                CHECKPOINT_FILE_PREFIX + "*" + CHECKPOINT_FILE_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String number = fileName.substring(CHECKPOINT_FILE_PREFIX.length(),
+                        fileName.length() - CHECKPOINT_FILE_SUFFIX.length());
+                if (number.matches("\\d{1,18}")) {
+                    numbers.add(Long.parseLong(number));
+                }
+            }
+        }
+        numbers.sort(Comparator.reverseOrder());
+        return numbers;
+    }
+
+    /**
+     * Returns the path of the checkpoint numbered {@code number}.
+     */
+    Path getCheckpointPath(long number) {
+        return folder.resolve(CHECKPOINT_FILE_PREFIX + number + CHECKPOINT_FILE_SUFFIX);
+    }
+
+    private static int checksumOf(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * A serialized section of a checkpoint, with its checksum.
+     */
+    private static class Section {
+        private final int type;
+        private final byte[] payload;
+        private final int checksum;
+
+        Section(int type, byte[] payload) {
+            this.type = type;
+            this.payload = payload;
+            this.checksum = checksumOf(payload);
+        }
+    }
+
+    /**
+     * A section holding a chunk of persons, which remembers the persons it was serialized from.
+     */
+    private static class PersonsSection extends Section {
+        private final Person[] persons;
+
+        PersonsSection(List<Person> chunk) throws IOException {
+            super(PERSONS_SECTION, serialize(chunk, List.of()));
+            persons = chunk.toArray(new Person[0]);
+        }
+
+        boolean isSameChunk(List<Person> chunk) {
+            if (chunk.size() != persons.length) {
+                return false;
+            }
+            for (int i = 0; i < persons.length; i++) {
+                if (chunk.get(i) != persons[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A section holding an attendance event, which remembers a copy of the event it was serialized from.
+     */
+    private static class EventSection extends Section {
+        private final AttendanceEvent event;
+
+        EventSection(AttendanceEvent currentEvent) throws IOException {
+            super(EVENT_SECTION, serialize(List.of(), List.of(currentEvent)));
+            event = new AttendanceEvent(currentEvent, currentEvent.getStudentOrdinals());
+        }
+
+        boolean isSameEvent(AttendanceEvent currentEvent) {
+            return event.getEventName().equals(currentEvent.getEventName()) && event.equals(currentEvent);
+        }
+    }
+
+    private static byte[] serialize(List<Person> persons, List<AttendanceEvent> events) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(persons, events, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that keeps rotating checkpoints of the address book saved by another storage, with a
+ * {@link CheckpointManager}, and restores the newest valid checkpoint if the data file of that storage cannot be
+ * loaded. A checkpoint is written after the first save, and then after each save at least
+ * {@code checkpointIntervalMillis} after the last checkpoint.
+ */
+public class CheckpointedAddressBookStorage implements AddressBookStorage {
+
+    public static final String CHECKPOINT_FOLDER_SUFFIX = ".checkpoints";
+    public static final long DEFAULT_CHECKPOINT_INTERVAL_MILLIS = 5 * 60 * 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(CheckpointedAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final CheckpointManager checkpointManager;
+    private final long checkpointIntervalMillis;
+    private long lastCheckpointMillis;
+    private boolean hasCheckpoint;
+
+    /**
+     * Creates a storage that saves to {@code addressBookStorage}, and keeps {@code checkpointCount} checkpoints
+     * beside its data file, written at most once every {@code checkpointIntervalMillis} milliseconds.
+     */
+    public CheckpointedAddressBookStorage(AddressBookStorage addressBookStorage, int checkpointCount,
+            long checkpointIntervalMillis) {
+        requireNonNull(addressBookStorage);
+        checkArgument(checkpointIntervalMillis >= 0, "Checkpoint interval must not be negative");
+        this.addressBookStorage = addressBookStorage;
+        this.checkpointManager = new CheckpointManager(
+                getCheckpointFolder(addressBookStorage.getAddressBookFilePath()), checkpointCount);
+        this.checkpointIntervalMillis = checkpointIntervalMillis;
+    }
+
+    /**
+     * Returns the folder of the checkpoints kept for the data file at {@code filePath}.
+     */
+    public static Path getCheckpointFolder(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKPOINT_FOLDER_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but restores from checkpoints only if {@code filePath} is the data file
+     * of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data file failed, and no checkpoint could be restored instead.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            return addressBookStorage.readAddressBook(filePath);
+        } catch (DataLoadingException e) {
+            if (!filePath.equals(getAddressBookFilePath())) {
+                throw e;
+            }
+            Optional<AddressBook> restored = restoreLatestCheckpoint();
+            if (restored.isEmpty()) {
+                throw e;
+            }
+            logger.warning("Data file at " + filePath + " could not be loaded."
+                    + " Restored the address book from the newest valid checkpoint instead.");
+            return Optional.of(restored.get());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but writes a checkpoint only if {@code filePath} is
+     * the data file of this storage. Failing to write a checkpoint does not fail the save.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (hasCheckpoint && now - lastCheckpointMillis < checkpointIntervalMillis) {
+            return;
+        }
+        try {
+            checkpointManager.writeCheckpoint(addressBook);
+            hasCheckpoint = true;
+            lastCheckpointMillis = now;
+        } catch (IOException ioe) {
+            logger.warning("Failed to write checkpoint to " + checkpointManager.getFolder() + ": "
+                    + StringUtil.getDetails(ioe));
+        }
+    }
+
+    private Optional<AddressBook> restoreLatestCheckpoint() {
+        try {
+            return checkpointManager.restoreLatest();
+        } catch (IOException ioe) {
+            logger.warning("Failed to list checkpoints in " + checkpointManager.getFolder() + ": "
+                    + StringUtil.getDetails(ioe));
+            return Optional.empty();
+        }
+    }
+}
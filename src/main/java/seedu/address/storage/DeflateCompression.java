@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.util.FileUtil.StreamWriter;
+
+/**
+ * Compresses address book files of any format with Deflate. A compressed file holds the bytes {@code ABKZ} and the
+ * version of this layer, followed by the zlib stream of the file as it would otherwise be written.
+ *
+ * Both directions stream: the writer's output is compressed as it is written, and a compressed file is inflated as
+ * it is read, so that the whole uncompressed file is never held in memory.
+ */
+class DeflateCompression {
+
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_COMPRESSED = "Data is not a compressed address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Compressed address book has unsupported version %d.";
+
+    private static final byte[] MAGIC = {'A', 'B', 'K', 'Z'};
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Trades a slightly larger file for much faster saves; the repetitive JSON keys compress well either way. */
+    private static final int LEVEL = Deflater.BEST_SPEED;
+
+    /**
+     * Returns true if {@code in} starts with the header of a compressed file, without consuming any of it.
+     * {@code in} must support {@link InputStream#mark(int)}.
+     */
+    public static boolean hasHeader(InputStream in) throws IOException {
+        requireNonNull(in);
+        in.mark(MAGIC.length);
+        try {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        } finally {
+            in.reset();
+        }
+    }
+
+    /**
+     * Consumes the header at the start of {@code in}, and returns a stream of the data it holds, decompressed as it is
+     * read. The returned stream supports {@link InputStream#mark(int)}, and closes {@code in} when it is closed.
+     *
+     * @throws IOException if {@code in} does not start with the header of a supported version.
+     */
+    public static InputStream decompress(InputStream in) throws IOException {
+        requireNonNull(in);
+        if (!Arrays.equals(MAGIC, in.readNBytes(MAGIC.length))) {
+            throw new IOException(MESSAGE_NOT_COMPRESSED);
+        }
+        int version = in.read();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        Inflater inflater = new Inflater();
+        InputStream inflated = new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+        return new BufferedInputStream(inflated, BUFFER_SIZE);
+    }
+
+    /**
+     * Writes the header to {@code out}, followed by the output of {@code writer}, compressed as it is written.
+     * {@code out} is left open, and may still be written to by {@code writer} closing its stream.
+     */
+    public static void write(OutputStream out, StreamWriter writer) throws IOException {
+        requireNonNull(out);
+        requireNonNull(writer);
+        out.write(MAGIC);
+        out.write(VERSION);
+
+        Deflater deflater = new Deflater(LEVEL);
+        try {
+            // Writers may close their stream, which must finish the compressed data without closing out
+            OutputStream unclosable = new FilterOutputStream(out) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+            DeflaterOutputStream deflating = new DeflaterOutputStream(unclosable, deflater, BUFFER_SIZE);
+            writer.writeTo(deflating);
+            deflating.finish();
+            deflating.flush();
+        } finally {
+            deflater.end();
+        }
+    }
+}
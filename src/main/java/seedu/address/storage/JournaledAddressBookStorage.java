@@ -0,0 +1,479 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.StudentIdMap;
+
+/**
+ * A class to access AddressBook data stored as a json checkpoint file together with a journal of later changes.
+ * Each save appends one line per changed person, event or attendance mark to the journal, instead of rewriting the
+ * whole checkpoint. Once the journal holds {@code checkpointInterval} entries, or a change cannot be expressed as
+ * journal entries, a new checkpoint is written and the journal is cleared. Reading replays the journal onto the
+ * checkpoint.
+ *
+ * Each checkpoint starts with a new epoch, which the first line of its journal repeats. A journal is only replayed
+ * onto the checkpoint of the same epoch, so that a journal left behind by a save interrupted after writing a new
+ * checkpoint is ignored, rather than replayed onto data that already holds its changes and later ones.
+ *
+ * The checkpoint has the same format as the file of a {@link JsonAddressBookStorage}, and is compressed by
+ * {@link DeflateCompression} if the storage is created to do so. The journal is never compressed, so that it can be
+ * appended to.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 500;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** The epoch of checkpoints and journals written before epochs were recorded. */
+    private static final long NO_EPOCH = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int checkpointInterval;
+    private final boolean isCompressed;
+
+    // The data last read from or written to savedFilePath, against which changes are journaled
+    private Path savedFilePath;
+    private final StudentIdMap<Person> savedPersons = new StudentIdMap<>();
+    private final List<StudentId> savedPersonOrder = new ArrayList<>();
+    private final Map<String, AttendanceEvent> savedEvents = new HashMap<>();
+    private final List<String> savedEventOrder = new ArrayList<>();
+    private int journalSize;
+    private long checkpointEpoch = NO_EPOCH;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL, false);
+    }
+
+    /**
+     * Creates a storage that writes a new checkpoint once the journal holds {@code checkpointInterval} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval) {
+        this(filePath, checkpointInterval, false);
+    }
+
+    /**
+     * Creates a storage that writes a new checkpoint once the journal holds {@code checkpointInterval} entries, and
+     * compresses the checkpoints it writes if {@code isCompressed} is true.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval, boolean isCompressed) {
+        requireNonNull(filePath);
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+        this.isCompressed = isCompressed;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the checkpoint at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the checkpoint. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            if (ShardedAddressBookStorage.hasCurrentShards(filePath)) {
+                // The data was last saved as shards, which the next save converts back to a checkpoint
+                savedFilePath = null;
+                return new ShardedAddressBookStorage(filePath).readAddressBook();
+            }
+
+            boolean hasCheckpoint = Files.exists(filePath);
+            if (!hasCheckpoint && !Files.exists(journalFilePath)) {
+                return Optional.empty();
+            }
+
+            boolean isJsonCheckpoint = !hasCheckpoint
+                    || AddressBookFiles.detectFormat(filePath) == AddressBookFormat.JSON
+                    && AddressBookFiles.isCompressed(filePath) == isCompressed;
+            AddressBook addressBook = hasCheckpoint ? AddressBookFiles.read(filePath) : new AddressBook();
+            List<String> journal = readJournal(journalFilePath);
+            long journalEpoch = getJournalEpoch(journal);
+            long epoch = hasCheckpoint ? AddressBookFiles.readJournalEpoch(filePath).orElse(NO_EPOCH) : journalEpoch;
+            if (journalEpoch != epoch) {
+                logger.warning("Ignoring journal file " + journalFilePath + " of an earlier checkpoint");
+                // The next save writes a checkpoint, replacing the journal
+                savedFilePath = null;
+                return Optional.of(addressBook);
+            }
+
+            int replayedEntries = replayJournal(journal, journalFilePath, addressBook);
+            if (isJsonCheckpoint) {
+                remember(filePath, addressBook);
+                journalSize = replayedEntries;
+                checkpointEpoch = epoch;
+            }
+            // Otherwise the next save writes a checkpoint, converting the data file to JSON, compressed as configured
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from checkpoint file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the checkpoint. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(savedFilePath)) {
+            writeCheckpoint(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        boolean isJournalable = diffPersons(addressBook.getPersonList(), entries)
+                && diffEvents(addressBook.getAttendanceEventList(), entries);
+        if (!isJournalable || journalSize + entries.size() >= checkpointInterval) {
+            writeCheckpoint(addressBook, filePath);
+            return;
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            appendToJournal(entries, getJournalFilePath(filePath), checkpointEpoch);
+        } catch (IOException ioe) {
+            // The remembered data no longer matches the file, so the next save must write a checkpoint
+            savedFilePath = null;
+            throw ioe;
+        }
+        journalSize += entries.size();
+    }
+
+    /**
+     * Writes {@code addressBook} as a checkpoint of a new epoch, then deletes the journal of the previous checkpoint
+     * and retires any shards the data was last saved as.
+     * The new epoch is later than that of any checkpoint this storage wrote or read, and, unless the clock was set
+     * back, than that of any earlier checkpoint, so a journal left behind is never taken to be of the new checkpoint.
+     */
+    private void writeCheckpoint(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        savedFilePath = null;
+        long epoch = Math.max(checkpointEpoch + 1, System.currentTimeMillis());
+        AddressBookFiles.write(filePath, isCompressed, out -> JsonAddressBookWriter.write(addressBook, epoch, out));
+        checkpointEpoch = epoch;
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        ShardedAddressBookStorage.retireShards(filePath);
+        remember(filePath, addressBook);
+        journalSize = 0;
+    }
+
+    /**
+     * Appends {@code entries} to the journal at {@code journalFilePath}, starting a new journal with a header naming
+     * {@code epoch} if there is none.
+     */
+    private static void appendToJournal(List<JsonAdaptedJournalEntry> entries, Path journalFilePath, long epoch)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalFilePath)) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonJournalHeader(epoch))).append('\n');
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns the lines of the journal at {@code journalFilePath}, or no lines if there is no journal.
+     */
+    private static List<String> readJournal(Path journalFilePath) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return List.of();
+        }
+        try {
+            return Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Returns the epoch named by the header of the journal with the given {@code lines}, or {@code NO_EPOCH} if it has
+     * no header.
+     */
+    private static long getJournalEpoch(List<String> lines) {
+        Long epoch = lines.isEmpty() ? null : readHeader(lines.get(0));
+        return epoch == null ? NO_EPOCH : epoch;
+    }
+
+    /**
+     * Returns the epoch named by {@code line}, or null if it is not a journal header.
+     */
+    private static Long readHeader(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonJournalHeader.class).getCheckpointEpoch();
+        } catch (IOException ioe) {
+            // A malformed line is reported, or ignored if it is the last, as it is replayed
+            return null;
+        }
+    }
+
+    /**
+     * Applies the entries in the journal with the given {@code lines}, read from {@code journalFilePath}, to
+     * {@code addressBook}. A malformed last line, as left by an interrupted append, is ignored.
+     *
+     * @return the number of entries applied.
+     */
+    private static int replayJournal(List<String> lines, Path journalFilePath, AddressBook addressBook)
+            throws DataLoadingException, IllegalValueException {
+        if (lines.isEmpty()) {
+            return 0;
+        }
+
+        int appliedEntries = 0;
+        int firstEntry = readHeader(lines.get(0)) == null ? 0 : 1;
+        for (int i = firstEntry; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading entry " + (i + 1) + " of journal file " + journalFilePath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+            entry.applyTo(addressBook);
+            appliedEntries++;
+        }
+        logger.info("Replayed " + appliedEntries + " entries from journal file " + journalFilePath);
+        return appliedEntries;
+    }
+
+    /**
+     * Adds journal entries for the changes from the remembered persons to {@code persons} to {@code entries}, and
+     * remembers {@code persons} instead.
+     * Persons are compared by identity, as the model replaces, rather than changes, a person that is edited.
+     *
+     * @return false if replaying the entries would not reproduce the order of {@code persons}.
+     */
+    private boolean diffPersons(List<Person> persons, List<JsonAdaptedJournalEntry> entries) {
+        // Replaying appends new persons, so persons already remembered must keep their order and come first
+        int keptCount = 0;
+        boolean hasNewPerson = false;
+        for (Person person : persons) {
+            if (savedPersons.get(person.getStudentId()) == null) {
+                hasNewPerson = true;
+            } else if (hasNewPerson) {
+                return false;
+            } else {
+                keptCount++;
+            }
+        }
+
+        Set<StudentId> removedIds = new HashSet<>();
+        if (keptCount < savedPersons.size()) {
+            StudentIdMap<Person> currentPersons = new StudentIdMap<>();
+            persons.forEach(person -> currentPersons.put(person.getStudentId(), person));
+            for (StudentId savedId : savedPersonOrder) {
+                if (!currentPersons.containsKey(savedId)) {
+                    removedIds.add(savedId);
+                }
+            }
+        }
+
+        int savedIndex = 0;
+        for (int i = 0; i < keptCount; i++) {
+            while (removedIds.contains(savedPersonOrder.get(savedIndex))) {
+                savedIndex++;
+            }
+            if (!savedPersonOrder.get(savedIndex).equals(persons.get(i).getStudentId())) {
+                return false;
+            }
+            savedIndex++;
+        }
+
+        for (StudentId removedId : removedIds) {
+            entries.add(JsonAdaptedJournalEntry.removePerson(removedId));
+            savedPersons.remove(removedId);
+        }
+        if (!removedIds.isEmpty()) {
+            savedPersonOrder.removeIf(removedIds::contains);
+        }
+        for (Person person : persons) {
+            Person savedPerson = savedPersons.get(person.getStudentId());
+            if (savedPerson == person) {
+                continue;
+            }
+            entries.add(JsonAdaptedJournalEntry.putPerson(person));
+            savedPersons.put(person.getStudentId(), person);
+            if (savedPerson == null) {
+                savedPersonOrder.add(person.getStudentId());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds journal entries for the changes from the remembered events to {@code events} to {@code entries}, and
+     * remembers {@code events} instead.
+     *
+     * @return false if replaying the entries would not reproduce {@code events}.
+     */
+    private boolean diffEvents(List<AttendanceEvent> events, List<JsonAdaptedJournalEntry> entries) {
+        List<String> keptNames = new ArrayList<>();
+        Set<String> currentNames = new HashSet<>();
+        boolean hasNewEvent = false;
+        for (AttendanceEvent event : events) {
+            String name = fold(event.getEventName());
+            currentNames.add(name);
+            if (!savedEvents.containsKey(name)) {
+                hasNewEvent = true;
+            } else if (hasNewEvent) {
+                return false;
+            } else {
+                keptNames.add(name);
+            }
+        }
+
+        List<String> savedKeptNames = new ArrayList<>(savedEventOrder);
+        savedKeptNames.retainAll(currentNames);
+        if (!savedKeptNames.equals(keptNames)) {
+            return false;
+        }
+
+        List<JsonAdaptedJournalEntry> eventEntries = new ArrayList<>();
+        for (String savedName : savedEventOrder) {
+            if (!currentNames.contains(savedName)) {
+                eventEntries.add(JsonAdaptedJournalEntry.removeEvent(savedEvents.get(savedName).getEventName()));
+            }
+        }
+        for (AttendanceEvent event : events) {
+            AttendanceEvent savedEvent = savedEvents.get(fold(event.getEventName()));
+            if (savedEvent == null) {
+                eventEntries.add(JsonAdaptedJournalEntry.putEvent(event));
+            } else if (!savedEvent.equals(event) && !diffAttendance(savedEvent, event, eventEntries)) {
+                return false;
+            }
+        }
+
+        entries.addAll(eventEntries);
+        rememberEvents(events);
+        return true;
+    }
+
+    /**
+     * Adds an attendance mark entry for each record of {@code event} that differs from {@code savedEvent}.
+     *
+     * @return false if a record of {@code savedEvent} was dropped from {@code event}.
+     */
+    private static boolean diffAttendance(AttendanceEvent savedEvent, AttendanceEvent event,
+            List<JsonAdaptedJournalEntry> entries) {
+        Map<StudentId, Boolean> savedRecords = savedEvent.getAttendanceRecords();
+        int keptRecordCount = 0;
+        for (Map.Entry<StudentId, Boolean> record : event.getAttendanceRecords().entrySet()) {
+            Boolean savedIsPresent = savedRecords.get(record.getKey());
+            if (savedIsPresent != null) {
+                keptRecordCount++;
+            }
+            if (!record.getValue().equals(savedIsPresent)) {
+                entries.add(JsonAdaptedJournalEntry.markAttendance(
+                        event.getEventName(), record.getKey(), record.getValue()));
+            }
+        }
+        return keptRecordCount == savedRecords.size();
+    }
+
+    private void remember(Path filePath, ReadOnlyAddressBook addressBook) {
+        savedPersons.clear();
+        savedPersonOrder.clear();
+        for (Person person : addressBook.getPersonList()) {
+            savedPersons.put(person.getStudentId(), person);
+            savedPersonOrder.add(person.getStudentId());
+        }
+        rememberEvents(addressBook.getAttendanceEventList());
+        savedFilePath = filePath;
+    }
+
+    /**
+     * Remembers copies of {@code events}, as events are changed in place.
+     */
+    private void rememberEvents(List<AttendanceEvent> events) {
+        Map<String, AttendanceEvent> previousEvents = new HashMap<>(savedEvents);
+        savedEvents.clear();
+        savedEventOrder.clear();
+        for (AttendanceEvent event : events) {
+            String name = fold(event.getEventName());
+            AttendanceEvent savedEvent = previousEvents.get(name);
+            boolean isOutdated = savedEvent == null || savedEvent.getStudentOrdinals() != event.getStudentOrdinals()
+                    || !savedEvent.equals(event);
+            if (isOutdated) {
+                savedEvent = new AttendanceEvent(event, event.getStudentOrdinals());
+            }
+            savedEvents.put(name, savedEvent);
+            savedEventOrder.add(name);
+        }
+    }
+
+    private static String fold(String eventName) {
+        return eventName.toLowerCase();
+    }
+}
@@ -16,6 +16,8 @@ import seedu.address.model.person.StudentId;
  */
 class JsonAdaptedAttendanceEvent {
 
+    public static final String MESSAGE_MISSING_EVENT_NAME = "Event name is missing!";
+
     private final String eventName;
     private final List<JsonAdaptedAttendanceRecord> attendanceRecords;
 
@@ -36,7 +38,7 @@ class JsonAdaptedAttendanceEvent {
     public JsonAdaptedAttendanceEvent(AttendanceEvent source) {
         eventName = source.getEventName();
         attendanceRecords = source.getAttendanceRecords().entrySet().stream()
-                .map(entry -> new JsonAdaptedAttendanceRecord(entry.getKey().value, entry.getValue()))
+                .map(entry -> new JsonAdaptedAttendanceRecord(entry.getKey().getValue(), entry.getValue()))
                 .collect(Collectors.toList());
     }
 
@@ -47,7 +49,7 @@ class JsonAdaptedAttendanceEvent {
      */
     public AttendanceEvent toModelType() throws IllegalValueException {
         if (eventName == null) {
-            throw new IllegalValueException("Event name is missing!");
+            throw new IllegalValueException(MESSAGE_MISSING_EVENT_NAME);
         }
         AttendanceEvent event = new AttendanceEvent(eventName);
         for (JsonAdaptedAttendanceRecord record : attendanceRecords) {
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Jackson-friendly version of one change to an address book, as recorded in the journal of a
+ * {@link JournaledAddressBookStorage}.
+ * Every entry can be applied more than once with the same result.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String PUT_PERSON = "putPerson";
+    public static final String REMOVE_PERSON = "removePerson";
+    public static final String PUT_EVENT = "putEvent";
+    public static final String REMOVE_EVENT = "removeEvent";
+    public static final String MARK_ATTENDANCE = "mark";
+
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal entry has unknown type: %s";
+    public static final String MESSAGE_MISSING_FIELD = "Journal entry of type %s is missing its %s!";
+    public static final String MESSAGE_EVENT_NOT_FOUND = "Journal entry marks attendance for unknown event: %s";
+
+    private final String type;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedAttendanceEvent event;
+    private final String studentId;
+    private final String eventName;
+    private final Boolean isPresent;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("event") JsonAdaptedAttendanceEvent event,
+                                   @JsonProperty("studentId") String studentId,
+                                   @JsonProperty("eventName") String eventName,
+                                   @JsonProperty("isPresent") Boolean isPresent) {
+        this.type = type;
+        this.person = person;
+        this.event = event;
+        this.studentId = studentId;
+        this.eventName = eventName;
+        this.isPresent = isPresent;
+    }
+
+    /**
+     * Returns an entry that adds {@code person}, or replaces the person with the same student ID.
+     */
+    public static JsonAdaptedJournalEntry putPerson(Person person) {
+        return new JsonAdaptedJournalEntry(PUT_PERSON, new JsonAdaptedPerson(person), null, null, null, null);
+    }
+
+    /**
+     * Returns an entry that removes the person with {@code studentId}, if any.
+     */
+    public static JsonAdaptedJournalEntry removePerson(StudentId studentId) {
+        return new JsonAdaptedJournalEntry(REMOVE_PERSON, null, null, studentId.getValue(), null, null);
+    }
+
+    /**
+     * Returns an entry that adds {@code event}, or replaces the event with the same name.
+     */
+    public static JsonAdaptedJournalEntry putEvent(AttendanceEvent event) {
+        return new JsonAdaptedJournalEntry(PUT_EVENT, null, new JsonAdaptedAttendanceEvent(event), null, null, null);
+    }
+
+    /**
+     * Returns an entry that removes the event named {@code eventName}, if any.
+     */
+    public static JsonAdaptedJournalEntry removeEvent(String eventName) {
+        return new JsonAdaptedJournalEntry(REMOVE_EVENT, null, null, null, eventName, null);
+    }
+
+    /**
+     * Returns an entry that marks the attendance of the student with {@code studentId} for the event named
+     * {@code eventName}.
+     */
+    public static JsonAdaptedJournalEntry markAttendance(String eventName, StudentId studentId, boolean isPresent) {
+        return new JsonAdaptedJournalEntry(MARK_ATTENDANCE, null, null, studentId.getValue(), eventName, isPresent);
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this entry.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+
+        switch (type) {
+        case PUT_PERSON:
+            Person toPut = require(person, "person").toModelType();
+            Optional<Person> existingPerson = addressBook.findByStudentId(toPut.getStudentId());
+            if (existingPerson.isPresent()) {
+                addressBook.setPerson(existingPerson.get(), toPut);
+            } else {
+                addressBook.addPerson(toPut);
+            }
+            break;
+        case REMOVE_PERSON:
+            addressBook.findByStudentId(toStudentId()).ifPresent(addressBook::removePerson);
+            break;
+        case PUT_EVENT:
+            AttendanceEvent eventToPut = require(event, "event").toModelType();
+            addressBook.getAttendanceEvent(eventToPut.getEventName()).ifPresent(addressBook::removeAttendanceEvent);
+            addressBook.addAttendanceEvent(eventToPut);
+            break;
+        case REMOVE_EVENT:
+            addressBook.getAttendanceEvent(require(eventName, "eventName"))
+                    .ifPresent(addressBook::removeAttendanceEvent);
+            break;
+        case MARK_ATTENDANCE:
+            AttendanceEvent eventToMark = addressBook.getAttendanceEvent(require(eventName, "eventName"))
+                    .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_EVENT_NOT_FOUND, eventName)));
+            addressBook.markAttendance(eventToMark, toStudentId(), require(isPresent, "isPresent"));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private StudentId toStudentId() throws IllegalValueException {
+        if (!StudentId.isValidStudentId(require(studentId, "studentId"))) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        return new StudentId(studentId);
+    }
+
+    private <T> T require(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, type, fieldName));
+        }
+        return field;
+    }
+}
@@ -56,7 +56,7 @@ class JsonAdaptedPerson {
      */
     public JsonAdaptedPerson(Person source) {
         name = source.getName().fullName;
-        studentId = source.getStudentId().value;
+        studentId = source.getStudentId().getValue();
         email = source.getEmail().value;
         major = source.getMajor().value;
         year = source.getYear().value;
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book in the format of {@link JsonSerializableAddressBook} in batches of persons and attendance
+ * events, converting each batch to model types in parallel as soon as it is read. Unlike deserializing a whole
+ * {@code JsonSerializableAddressBook}, the file is never held in memory as text, and only one batch at a time is held
+ * as Jackson-friendly objects.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data is not a JSON object.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Address book field %s is not a JSON array.";
+
+    static final String JOURNAL_EPOCH_FIELD = "journalEpoch";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String ATTENDANCE_EVENTS_FIELD = "attendanceEvents";
+
+    /**
+     * Reads the address book in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads the address book in JSON from {@code in}. Fields other than its persons and attendance events are
+     * ignored, and missing fields are read as empty.
+     *
+     * @throws IOException if {@code in} could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        AddressBookLoader loader = new AddressBookLoader();
+        read(in, loader);
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Reads the address book in JSON from {@code in} as {@link #read(InputStream)} does, adding its persons and
+     * attendance events to {@code loader} after those already added.
+     *
+     * @throws IOException if {@code in} could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static void read(InputStream in, AddressBookLoader loader) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        requireNonNull(loader);
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case PERSONS_FIELD:
+                    readPersons(parser, loader);
+                    break;
+                case ATTENDANCE_EVENTS_FIELD:
+                    readAttendanceEvents(parser, loader);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the journal epoch that {@link JsonAddressBookWriter} wrote at the start of the address book in JSON
+     * from {@code in}, reading no further than its first field.
+     *
+     * @return the epoch, or empty if the address book does not start with one.
+     * @throws IOException if {@code in} could not be read or is not valid JSON.
+     */
+    public static Optional<Long> readJournalEpoch(InputStream in) throws IOException {
+        requireNonNull(in);
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME
+                    || !JOURNAL_EPOCH_FIELD.equals(parser.getCurrentName())
+                    || parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                return Optional.empty();
+            }
+            return Optional.of(parser.getLongValue());
+        }
+    }
+
+    private static void readPersons(JsonParser parser, AddressBookLoader loader)
+            throws IOException, IllegalValueException {
+        if (!startArray(parser, PERSONS_FIELD)) {
+            return;
+        }
+
+        List<JsonAdaptedPerson> batch = new ArrayList<>(AddressBookLoader.BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == AddressBookLoader.BATCH_SIZE) {
+                loader.addPersons(batch, JsonAdaptedPerson::toModelType);
+                batch.clear();
+            }
+        }
+        loader.addPersons(batch, JsonAdaptedPerson::toModelType);
+    }
+
+    private static void readAttendanceEvents(JsonParser parser, AddressBookLoader loader)
+            throws IOException, IllegalValueException {
+        if (!startArray(parser, ATTENDANCE_EVENTS_FIELD)) {
+            return;
+        }
+
+        List<JsonAdaptedAttendanceEvent> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedAttendanceEvent.class));
+            if (batch.size() == AddressBookLoader.BATCH_SIZE) {
+                loader.addAttendanceEvents(batch, JsonAdaptedAttendanceEvent::toModelType);
+                batch.clear();
+            }
+        }
+        loader.addAttendanceEvents(batch, JsonAdaptedAttendanceEvent::toModelType);
+    }
+
+    /**
+     * Returns true if the parser is at the start of an array, or false if it is at a null value.
+     *
+     * @throws IllegalValueException if the parser is at any other value.
+     */
+    private static boolean startArray(JsonParser parser, String fieldName) throws IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+        return true;
+    }
+}
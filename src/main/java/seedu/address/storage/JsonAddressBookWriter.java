@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book in the format of {@link JsonSerializableAddressBook} one person and one attendance event at
+ * a time, so that the whole address book is never held in memory as text or as Jackson-friendly objects.
+ */
+class JsonAddressBookWriter {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String ATTENDANCE_EVENTS_FIELD = "attendanceEvents";
+    private static final String JOURNAL_EPOCH_FIELD = JsonAddressBookReader.JOURNAL_EPOCH_FIELD;
+
+    /**
+     * Writes {@code addressBook} as compact JSON to the file at {@code filePath}, replacing it only once the whole
+     * address book has been written to the disk.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        FileUtil.writeAtomically(filePath, out -> write(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} as compact JSON to {@code out}, and closes it.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        write(addressBook.getPersonList(), addressBook.getAttendanceEventList(), out);
+    }
+
+    /**
+     * Writes {@code addressBook} as compact JSON to {@code out} as {@link #write(ReadOnlyAddressBook, OutputStream)}
+     * does, but starting with {@code journalEpoch}, which {@link JsonAddressBookReader#readJournalEpoch} reads back
+     * and other readers ignore.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, long journalEpoch, OutputStream out)
+            throws IOException {
+        requireNonNull(addressBook);
+        write(addressBook.getPersonList(), addressBook.getAttendanceEventList(), journalEpoch, out);
+    }
+
+    /**
+     * Writes an address book with the given {@code persons} and {@code attendanceEvents} as compact JSON to
+     * {@code out}, and closes it.
+     */
+    public static void write(List<Person> persons, List<AttendanceEvent> attendanceEvents, OutputStream out)
+            throws IOException {
+        write(persons, attendanceEvents, null, out);
+    }
+
+    private static void write(List<Person> persons, List<AttendanceEvent> attendanceEvents, Long journalEpoch,
+            OutputStream out) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(attendanceEvents);
+        requireNonNull(out);
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+
+            if (journalEpoch != null) {
+                generator.writeNumberField(JOURNAL_EPOCH_FIELD, journalEpoch);
+            }
+
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(ATTENDANCE_EVENTS_FIELD);
+            for (AttendanceEvent event : attendanceEvents) {
+                generator.writeObject(new JsonAdaptedAttendanceEvent(event));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
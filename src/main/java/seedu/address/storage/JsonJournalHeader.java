@@ -0,0 +1,28 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of the journal of a {@link JournaledAddressBookStorage}, which names the
+ * epoch of the checkpoint that the entries of the journal were recorded against.
+ */
+class JsonJournalHeader {
+
+    private final Long checkpointEpoch;
+
+    /**
+     * Constructs a {@code JsonJournalHeader} with the given epoch.
+     */
+    @JsonCreator
+    public JsonJournalHeader(@JsonProperty("checkpointEpoch") Long checkpointEpoch) {
+        this.checkpointEpoch = checkpointEpoch;
+    }
+
+    /**
+     * Returns the epoch of the checkpoint, or null if the line read is not a header.
+     */
+    public Long getCheckpointEpoch() {
+        return checkpointEpoch;
+    }
+}
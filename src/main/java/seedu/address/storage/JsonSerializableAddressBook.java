@@ -11,8 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.attendance.AttendanceEvent;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -55,26 +53,16 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons and attendance events are converted in parallel, and the first invalid or duplicate one in the lists
+     * is reported.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-        for (JsonAdaptedAttendanceEvent jsonAdaptedEvent : attendanceEvents) {
-            AttendanceEvent event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasAttendanceEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE_EVENT);
-            }
-            addressBook.addAttendanceEvent(event);
-        }
-        return addressBook;
+        AddressBookLoader loader = new AddressBookLoader();
+        loader.addPersons(persons, JsonAdaptedPerson::toModelType);
+        loader.addAttendanceEvents(attendanceEvents, JsonAdaptedAttendanceEvent::toModelType);
+        return loader.toAddressBook();
     }
 
 }
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly manifest of the shards of a {@link ShardedAddressBookStorage}: the attendance event files in
+ * the order of their events, the number to name the next new event file with, and the checksum of the data file that
+ * the shards replaced, if any.
+ */
+class JsonShardManifest {
+
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Shard manifest has unsupported version %d.";
+    public static final String MESSAGE_INVALID_EVENT_FILE = "Shard manifest lists invalid attendance event file: %s";
+
+    private final int version;
+    private final List<String> attendanceEventFiles = new ArrayList<>();
+    private final int nextEventFileNumber;
+    private final Long replacedDataFileChecksum;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("version") int version,
+                             @JsonProperty("attendanceEventFiles") List<String> attendanceEventFiles,
+                             @JsonProperty("nextEventFileNumber") int nextEventFileNumber,
+                             @JsonProperty("replacedDataFileChecksum") Long replacedDataFileChecksum) {
+        this.version = version;
+        if (attendanceEventFiles != null) {
+            this.attendanceEventFiles.addAll(attendanceEventFiles);
+        }
+        this.nextEventFileNumber = nextEventFileNumber;
+        this.replacedDataFileChecksum = replacedDataFileChecksum;
+    }
+
+    /**
+     * Constructs a manifest of the current version, listing the given attendance event files in order.
+     *
+     * @param replacedDataFileChecksum checksum of the data file that the shards replace, or null if there is none.
+     */
+    public JsonShardManifest(List<String> attendanceEventFiles, int nextEventFileNumber,
+                             Long replacedDataFileChecksum) {
+        this(VERSION, attendanceEventFiles, nextEventFileNumber, replacedDataFileChecksum);
+    }
+
+    public int getNextEventFileNumber() {
+        return nextEventFileNumber;
+    }
+
+    /**
+     * Returns the checksum of the data file that the shards replaced, which a save of the shards deletes once the
+     * manifest is written, or null if there was none.
+     */
+    public Optional<Long> getReplacedDataFileChecksum() {
+        return Optional.ofNullable(replacedDataFileChecksum);
+    }
+
+    /**
+     * Returns the names of the attendance event files, in the order of their events.
+     *
+     * @throws IllegalValueException if the manifest is of another version, or names a file outside its folder.
+     */
+    public List<String> getAttendanceEventFiles() throws IllegalValueException {
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        for (String fileName : attendanceEventFiles) {
+            if (fileName == null || !ShardedAddressBookStorage.isEventFileName(fileName)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_EVENT_FILE, fileName));
+            }
+        }
+        return attendanceEventFiles;
+    }
+}
@@ -0,0 +1,441 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A class to access AddressBook data stored as a folder of json shards: one file of persons, one file per attendance
+ * event, and a manifest listing the event files in order. Each save rewrites only the shards whose data changed since
+ * the last read or save, and the manifest only if events were added, removed or reordered. Shards are read in
+ * parallel.
+ *
+ * Attendance events are read unloaded, with only their names read at startup. The records of an event are read from
+ * its file when first needed, and can be read again after the event is unloaded, as long as the event is unchanged.
+ *
+ * The folder is kept beside the data file path, and the shards hold the current data only while it has a manifest.
+ * A save of the shards writes the manifest, naming the checksum of any data file it replaces, then deletes that data
+ * file and any journal of it. A save by a storage of another format deletes the manifest once its data file is
+ * written, so that the shards are not read again if the format is switched back, even if the data file later goes
+ * missing. A data file beside a manifest is thus left by a save that was interrupted, and holds the current data only
+ * if it is not the one the manifest replaced. Such a data file is read instead of the shards until the next save, so
+ * that it is converted to shards, and the storages of other formats read the current shards in place of their data
+ * file. Each shard is replaced atomically, and the manifest is written after every shard it lists.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_FOLDER_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String PERSONS_FILE_NAME = "persons.json";
+
+    public static final String MESSAGE_EMPTY_EVENT_FILE = "Attendance event file %s is empty.";
+
+    private static final String EVENT_FILE_PREFIX = "event-";
+    private static final String EVENT_FILE_SUFFIX = ".json";
+    private static final String EVENT_NAME_FIELD = "eventName";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    // The data last read from or written to savedFolder, against which changes are found
+    private Path savedFolder;
+    private final List<Person> savedPersons = new ArrayList<>();
+    private final Map<String, SavedEvent> savedEvents = new HashMap<>();
+    private final List<String> savedEventFiles = new ArrayList<>();
+    private int nextEventFileNumber;
+
+    /**
+     * Creates a storage that keeps its shards beside the data file at {@code filePath}.
+     */
+    public ShardedAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the folder that the shards of the data file at {@code filePath} are kept in.
+     */
+    public static Path getShardFolder(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_FOLDER_SUFFIX);
+    }
+
+    /**
+     * Returns true if the shards kept beside the data file at {@code filePath} hold the current data, because they
+     * have a manifest and the data file is missing or is the one that the manifest replaced.
+     */
+    public static boolean hasCurrentShards(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Path manifestPath = getShardFolder(filePath).resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return false;
+        }
+        if (!Files.exists(filePath)) {
+            return true;
+        }
+        // Either this save or a save of another format was interrupted before deleting what it replaced
+        JsonShardManifest manifest = JsonUtil.fromJsonString(
+                FileUtil.readFromFile(manifestPath), JsonShardManifest.class);
+        return manifest.getReplacedDataFileChecksum().equals(Optional.of(checksumOf(filePath)));
+    }
+
+    /**
+     * Retires the shards kept beside the data file at {@code filePath}, once a storage of another format has written
+     * the data file, by deleting their manifest. The other shards are kept, as attendance events read from them may
+     * not yet be loaded, and are deleted by the next save of the shards.
+     */
+    public static void retireShards(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Files.deleteIfExists(getShardFolder(filePath).resolve(MANIFEST_FILE_NAME));
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the contents of the file at {@code path}.
+     */
+    private static long checksumOf(Path path) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] buffer = new byte[8192];
+            for (int count = in.read(buffer); count != -1; count = in.read(buffer)) {
+                crc.update(buffer, 0, count);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Returns true if {@code fileName} is the name of an attendance event file in a shard folder.
+     */
+    static boolean isEventFileName(String fileName) {
+        return fileName.matches(EVENT_FILE_PREFIX + "\\d+" + EVENT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data file, beside which the shards are kept. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path folder = getShardFolder(filePath);
+        Path manifestPath = folder.resolve(MANIFEST_FILE_NAME);
+        try {
+            if (hasCurrentShards(filePath)) {
+                return Optional.of(readShards(folder, manifestPath));
+            }
+            // The next save writes every shard, converting the data file, along with its journal if it has one
+            savedFolder = null;
+            return new JournaledAddressBookStorage(filePath).readAddressBook();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from shards of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private AddressBook readShards(Path folder, Path manifestPath) throws IOException, IllegalValueException {
+        JsonShardManifest manifest = JsonUtil.fromJsonString(
+                FileUtil.readFromFile(manifestPath), JsonShardManifest.class);
+        List<String> eventFiles = manifest.getAttendanceEventFiles();
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        Path personsPath = folder.resolve(PERSONS_FILE_NAME);
+        Future<AddressBook> persons = pool.submit(() -> JsonAddressBookReader.read(personsPath));
+        List<Future<AttendanceEvent>> events = new ArrayList<>();
+        for (String eventFile : eventFiles) {
+            events.add(pool.submit(() -> readUnloadedEvent(folder.resolve(eventFile))));
+        }
+
+        // Failures are reported in the order of the shards, whichever shard failed first
+        AddressBook addressBook = join(persons);
+        for (Future<AttendanceEvent> future : events) {
+            AttendanceEvent event = join(future);
+            if (addressBook.hasAttendanceEvent(event)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE_EVENT);
+            }
+            addressBook.addAttendanceEvent(event);
+        }
+
+        remember(folder, addressBook, eventFiles, manifest.getNextEventFileNumber());
+        return addressBook;
+    }
+
+    /**
+     * Returns an unloaded attendance event with the name in the file at {@code eventPath}, whose records are read from
+     * the file when first needed.
+     */
+    private static AttendanceEvent readUnloadedEvent(Path eventPath) throws IOException, IllegalValueException {
+        try (InputStream in = Files.newInputStream(eventPath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(String.format(MESSAGE_EMPTY_EVENT_FILE, eventPath.getFileName()));
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(EVENT_NAME_FIELD) && parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                    return new AttendanceEvent(parser.getText(), () -> readAttendanceRecords(eventPath));
+                }
+                parser.skipChildren();
+            }
+            throw new IllegalValueException(JsonAdaptedAttendanceEvent.MESSAGE_MISSING_EVENT_NAME);
+        }
+    }
+
+    private static Map<StudentId, Boolean> readAttendanceRecords(Path eventPath) throws DataLoadingException {
+        try {
+            return readEvent(eventPath).getAttendanceRecords();
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading attendance event file " + eventPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static AttendanceEvent readEvent(Path eventPath) throws IOException, IllegalValueException {
+        try (InputStream in = Files.newInputStream(eventPath); JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() == null) {
+                throw new IllegalValueException(String.format(MESSAGE_EMPTY_EVENT_FILE, eventPath.getFileName()));
+            }
+            return parser.readValueAs(JsonAdaptedAttendanceEvent.class).toModelType();
+        }
+    }
+
+    /**
+     * Waits for the shard read by {@code future}, rethrowing the exception it failed with, if any.
+     */
+    private static <T> T join(Future<T> future) throws IOException, IllegalValueException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading shards", e);
+        } catch (ExecutionException e) {
+            // The pool wraps checked exceptions in unchecked ones
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data file, beside which the shards are kept. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path folder = getShardFolder(filePath);
+        boolean isRemembered = folder.equals(savedFolder);
+        // If this save fails part way, the remembered data no longer matches the shards
+        savedFolder = null;
+        if (!isRemembered) {
+            savedPersons.clear();
+            savedEvents.clear();
+            savedEventFiles.clear();
+            nextEventFileNumber = readNextEventFileNumber(folder);
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        if (!isRemembered || !isSameList(savedPersons, persons)) {
+            FileUtil.writeAtomically(folder.resolve(PERSONS_FILE_NAME), out ->
+                    JsonAddressBookWriter.write(persons, List.of(), out));
+        }
+
+        List<String> eventFiles = new ArrayList<>();
+        Map<String, SavedEvent> previousEvents = new HashMap<>(savedEvents);
+        savedEvents.clear();
+        for (AttendanceEvent event : addressBook.getAttendanceEventList()) {
+            SavedEvent savedEvent = previousEvents.remove(fold(event.getEventName()));
+            if (savedEvent == null) {
+                savedEvent = new SavedEvent(EVENT_FILE_PREFIX + nextEventFileNumber++ + EVENT_FILE_SUFFIX);
+            }
+            if (savedEvent.isOutdated(event)) {
+                writeEvent(event, folder.resolve(savedEvent.fileName));
+                savedEvent.remember(event);
+            }
+            savedEvents.put(fold(event.getEventName()), savedEvent);
+            eventFiles.add(savedEvent.fileName);
+        }
+
+        Path manifestPath = folder.resolve(MANIFEST_FILE_NAME);
+        Long replacedDataFileChecksum = Files.exists(filePath) ? checksumOf(filePath) : null;
+        if (!isRemembered || !eventFiles.equals(savedEventFiles) || replacedDataFileChecksum != null
+                || !Files.exists(manifestPath)) {
+            String manifest = JsonUtil.toJsonString(
+                    new JsonShardManifest(eventFiles, nextEventFileNumber, replacedDataFileChecksum));
+            FileUtil.writeAtomically(manifestPath, out ->
+                    out.write(manifest.getBytes(StandardCharsets.UTF_8)));
+            deleteUnlistedEventFiles(folder, eventFiles);
+        }
+
+        // The manifest now names the data file as replaced, so the shards hold the current data
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(JournaledAddressBookStorage.getJournalFilePath(filePath));
+
+        savedPersons.clear();
+        savedPersons.addAll(persons);
+        savedEventFiles.clear();
+        savedEventFiles.addAll(eventFiles);
+        savedFolder = folder;
+    }
+
+    /**
+     * Returns the number to name the next new event file in {@code folder} with, so that the files listed in its
+     * current manifest, if any, are not overwritten before the new manifest is written.
+     */
+    private static int readNextEventFileNumber(Path folder) {
+        Path manifestPath = folder.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return 0;
+        }
+        try {
+            JsonShardManifest manifest = JsonUtil.fromJsonString(
+                    FileUtil.readFromFile(manifestPath), JsonShardManifest.class);
+            return manifest.getNextEventFileNumber();
+        } catch (IOException ioe) {
+            logger.warning("Error reading shard manifest " + manifestPath + ": " + ioe);
+            return 0;
+        }
+    }
+
+    private static void writeEvent(AttendanceEvent event, Path eventPath) throws IOException {
+        FileUtil.writeAtomically(eventPath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeObject(new JsonAdaptedAttendanceEvent(event));
+            }
+        });
+    }
+
+    /**
+     * Deletes the attendance event files in {@code folder} other than {@code eventFiles}, such as those of removed
+     * events.
+     */
+    private static void deleteUnlistedEventFiles(Path folder, List<String> eventFiles) throws IOException {
+        Set<String> listedFiles = new HashSet<>(eventFiles);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (isEventFileName(fileName) && !listedFiles.contains(fileName)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private void remember(Path folder, AddressBook addressBook, List<String> eventFiles, int nextEventFileNumber) {
+        savedPersons.clear();
+        savedPersons.addAll(addressBook.getPersonList());
+        savedEvents.clear();
+        List<AttendanceEvent> events = addressBook.getAttendanceEventList();
+        for (int i = 0; i < events.size(); i++) {
+            SavedEvent savedEvent = new SavedEvent(eventFiles.get(i));
+            savedEvent.remember(events.get(i));
+            savedEvents.put(fold(events.get(i).getEventName()), savedEvent);
+        }
+        savedEventFiles.clear();
+        savedEventFiles.addAll(eventFiles);
+        this.nextEventFileNumber = Math.max(nextEventFileNumber, eventFiles.size());
+        savedFolder = folder;
+    }
+
+    /**
+     * Returns true if the lists hold the same persons in the same order.
+     * Persons are compared by identity, as the model replaces, rather than changes, a person that is edited.
+     */
+    private static boolean isSameList(List<Person> savedPersons, List<Person> persons) {
+        if (savedPersons.size() != persons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (savedPersons.get(i) != persons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String fold(String eventName) {
+        return eventName.toLowerCase();
+    }
+
+    /**
+     * The file of an attendance event, with a copy of the event as last written to it, as events are changed in place.
+     */
+    private static class SavedEvent {
+        private final String fileName;
+        private AttendanceEvent event;
+
+        SavedEvent(String fileName) {
+            this.fileName = fileName;
+        }
+
+        boolean isOutdated(AttendanceEvent currentEvent) {
+            return event == null || !event.getEventName().equals(currentEvent.getEventName())
+                    || !event.equals(currentEvent);
+        }
+
+        void remember(AttendanceEvent currentEvent) {
+            event = new AttendanceEvent(currentEvent, currentEvent.getStudentOrdinals());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeTest {
+
+    @Test
+    public void constructor_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new IndexRange(Index.fromOneBased(3), Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void of_singleIndex_startsAndEndsAtIndex() {
+        IndexRange range = IndexRange.of(Index.fromOneBased(4));
+        assertEquals(Index.fromOneBased(4), range.getStart());
+        assertEquals(Index.fromOneBased(4), range.getEnd());
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = new IndexRange(Index.fromOneBased(1), Index.fromOneBased(5));
+
+        assertTrue(range.equals(range));
+        assertTrue(range.equals(new IndexRange(Index.fromZeroBased(0), Index.fromZeroBased(4))));
+        assertEquals(range.hashCode(), new IndexRange(Index.fromOneBased(1), Index.fromOneBased(5)).hashCode());
+
+        assertFalse(range.equals(null));
+        assertFalse(range.equals(Index.fromOneBased(1)));
+        assertFalse(range.equals(new IndexRange(Index.fromOneBased(1), Index.fromOneBased(4))));
+        assertFalse(range.equals(IndexRange.of(Index.fromOneBased(5))));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_success() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\r\nd\n\n\ne,f"));
+        assertEquals(List.of("a", "b", "", "c"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(List.of("d"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        // blank lines are skipped
+        assertEquals(List.of("e", "f"), reader.readRecord());
+        assertEquals(5, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_loneCarriageReturns_lineNumbersCounted() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a\rb\r\rc,\"d\re\"\rf"));
+        assertEquals(List.of("a"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(List.of("b"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertEquals(List.of("c", "d\re"), reader.readRecord());
+        assertEquals(4, reader.getRecordLineNumber());
+        assertEquals(List.of("f"), reader.readRecord());
+        assertEquals(6, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_byteOrderMark_skipped() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFName,Phone\n\uFEFFx"));
+        assertEquals(List.of("Name", "Phone"), reader.readRecord());
+        // only a mark at the very start is skipped
+        assertEquals(List.of("\uFEFFx"), reader.readRecord());
+        assertNull(reader.readRecord());
+
+        CsvReader quoted = new CsvReader(new StringReader("\uFEFF\"Name\",x"));
+        assertEquals(List.of("Name", "x"), quoted.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"a,b\",\"say \"\"hi\"\"\",\"two\r\nlines\"\nnext,"));
+        assertEquals(List.of("a,b", "say \"hi\"", "two\nlines"), reader.readRecord());
+        assertEquals(List.of("next", ""), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_malformedQuotes_throwsIoException() throws IOException {
+        CsvReader unterminated = new CsvReader(new StringReader("a\n\"b,c\n"));
+        unterminated.readRecord();
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNTERMINATED_QUOTE, 2),
+                unterminated::readRecord);
+
+        CsvReader textAfterQuote = new CsvReader(new StringReader("\"a\"b,c"));
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_TEXT_AFTER_QUOTE, 1),
+                textAfterQuote::readRecord);
+    }
+
+    @Test
+    public void writeRecord_readBack_sameFields() throws IOException {
+        List<List<String>> records = List.of(List.of("plain", "", "with,comma"),
+                List.of("\"quoted\"", "multi\nline", " leading space"),
+                List.of("carriage\rreturn", "x"));
+        StringWriter out = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(out)) {
+            for (List<String> record : records) {
+                writer.writeRecord(record);
+            }
+        }
+        assertTrue(out.toString().startsWith("plain,,\"with,comma\"\r\n"));
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+        for (List<String> record : records) {
+            assertEquals(record, reader.readRecord());
+        }
+        assertNull(reader.readRecord());
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<StringBuilder> interner = new Interner<>(StringBuilder::new);
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_sameKey_returnsSameInstance() {
+        StringBuilder value = interner.intern("a");
+        assertSame(value, interner.intern("a"));
+        assertNotSame(value, interner.intern("A"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        Interner<Integer> failing = new Interner<>(key -> {
+            throw new IllegalArgumentException(key);
+        });
+        assertThrows(IllegalArgumentException.class, () -> failing.intern("a"));
+        assertEquals(0, failing.size());
+    }
+}
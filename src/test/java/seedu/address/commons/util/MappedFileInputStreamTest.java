@@ -0,0 +1,89 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedFileInputStreamTest {
+
+    private static final byte[] CONTENT = {1, 2, 3, 4, 5, (byte) 0xFF};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MappedFileInputStream(null));
+    }
+
+    @Test
+    public void constructor_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> new MappedFileInputStream(testFolder.resolve("missing")));
+    }
+
+    @Test
+    public void readAllBytes_sameAsFile() throws Exception {
+        try (InputStream in = new MappedFileInputStream(writeContent())) {
+            assertEquals(CONTENT.length, in.available());
+            assertArrayEquals(CONTENT, in.readAllBytes());
+            assertEquals(0, in.available());
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void read_singleBytes_unsigned() throws Exception {
+        try (InputStream in = new MappedFileInputStream(writeContent())) {
+            assertEquals(1, in.read());
+            assertEquals(4, in.skip(4));
+            assertEquals(0xFF, in.read());
+            assertEquals(0, in.skip(1));
+        }
+    }
+
+    @Test
+    public void read_emptyFile_endOfStream() throws Exception {
+        Path file = testFolder.resolve("empty");
+        Files.createFile(file);
+        try (InputStream in = new MappedFileInputStream(file)) {
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[1], 0, 1));
+        }
+    }
+
+    @Test
+    public void reset_afterMark_readsAgain() throws Exception {
+        try (InputStream in = new MappedFileInputStream(writeContent())) {
+            assertTrue(in.markSupported());
+            in.skip(2);
+            in.mark(CONTENT.length);
+            byte[] buffer = new byte[2];
+            assertEquals(2, in.read(buffer, 0, 2));
+            in.reset();
+            assertEquals(3, in.read());
+        }
+    }
+
+    @Test
+    public void read_afterClose_throwsIoException() throws Exception {
+        InputStream in = new MappedFileInputStream(writeContent());
+        in.close();
+        assertThrows(IOException.class, () -> in.read());
+        assertThrows(IOException.class, () -> in.available());
+    }
+
+    private Path writeContent() throws IOException {
+        Path file = testFolder.resolve("content");
+        Files.write(file, CONTENT);
+        return file;
+    }
+}
@@ -16,21 +16,28 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListAttendanceCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.AttendanceEvent;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -92,6 +99,61 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        // Any attempt to save fails, so the command only succeeds if nothing is saved
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                }, new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_NO_RESULT, model);
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_errorReported() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        throw DUMMY_AD_EXCEPTION;
+                    }
+                };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(addressBookStorage, 0);
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), saver);
+        List<String> errors = new CopyOnWriteArrayList<>();
+        logic.setSaveErrorHandler(errors::add);
+
+        // the command itself succeeds, as the save happens after it returns
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + STUDENTID_DESC_AMY
+                + EMAIL_DESC_AMY + MAJOR_DESC_AMY + YEAR_DESC_AMY);
+        saver.shutdown();
+
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage())), errors);
+    }
+
+    @Test
+    public void execute_attendanceCannotBeLoaded_throwsCommandException() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addAttendanceEvent(new AttendanceEvent("Tutorial 1", () -> {
+            throw new DataLoadingException(DUMMY_IO_EXCEPTION);
+        }));
+        model = new ModelManager(addressBook, new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertCommandException(ListAttendanceCommand.COMMAND_WORD + " e/Tutorial 1 s/present",
+                String.format(Messages.MESSAGE_ATTENDANCE_NOT_LOADED, "Tutorial 1"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
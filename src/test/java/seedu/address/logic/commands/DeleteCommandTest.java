@@ -9,15 +9,23 @@ import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.stubs.delete.ModelManagerStub;
 
@@ -92,6 +100,60 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INDEX_UPPERBOUND_ERROR);
     }
 
+    @Test
+    public void execute_indexesAndRanges_deletesAllInOneChange() {
+        List<Person> shownPersons = model.getFilteredPersonList();
+        List<Person> personsToDelete = List.of(shownPersons.get(0), shownPersons.get(2), shownPersons.get(3),
+                shownPersons.get(4));
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON),
+                new IndexRange(Index.fromOneBased(4), Index.fromOneBased(5)),
+                new IndexRange(Index.fromOneBased(3), Index.fromOneBased(4))));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 4,
+                personsToDelete.stream().map(Messages::format).collect(Collectors.joining("\n")));
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        personsToDelete.forEach(expectedModel::deletePerson);
+
+        int[] changeCount = new int[1];
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+        long generation = model.getAddressBookGeneration();
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertEquals(1, changeCount[0]);
+        assertEquals(generation + 1, model.getAddressBookGeneration());
+    }
+
+    @Test
+    public void execute_rangeOutOfBounds_nothingDeleted() {
+        int size = model.getFilteredPersonList().size();
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON),
+                new IndexRange(INDEX_SECOND_PERSON, Index.fromOneBased(size + 1))));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INDEX_UPPERBOUND_ERROR);
+    }
+
+    @Test
+    public void execute_predicate_deletesAllMatchingPersons() {
+        // the filtered list does not limit the persons matched
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        DeleteCommand deleteCommand = new DeleteCommand(
+                new NameContainsKeywordsPredicate(List.of("Meier")));
+
+        List<Person> personsToDelete = List.of(BENSON, DANIEL);
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 2,
+                personsToDelete.stream().map(Messages::format).collect(Collectors.joining("\n")));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        personsToDelete.forEach(expectedModel::deletePerson);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_predicateMatchesNobody_throwsCommandException() {
+        DeleteCommand deleteCommand = new DeleteCommand(new NameContainsKeywordsPredicate(List.of("Nobody")));
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_NO_STUDENTS_FOUND);
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -112,13 +174,26 @@ public class DeleteCommandTest {
 
         // different person -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // same ranges -> returns true
+        DeleteCommand deleteRangeCommand = new DeleteCommand(
+                List.of(new IndexRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+        assertTrue(deleteRangeCommand.equals(
+                new DeleteCommand(List.of(new IndexRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)))));
+        assertFalse(deleteRangeCommand.equals(deleteFirstCommand));
+
+        // same predicate -> returns true
+        DeleteCommand deletePredicateCommand = new DeleteCommand(new NameContainsKeywordsPredicate(List.of("a")));
+        assertTrue(deletePredicateCommand.equals(new DeleteCommand(new NameContainsKeywordsPredicate(List.of("a")))));
+        assertFalse(deletePredicateCommand.equals(deleteFirstCommand));
     }
 
     @Test
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName()
+                + "{targetRanges=" + List.of(IndexRange.of(targetIndex)) + ", predicate=null}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_export_importedBackUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("export").resolve("students.csv");
+        int size = model.getFilteredPersonList().size();
+        assertCommandSuccess(new ExportCommand(filePath), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, size, filePath), expectedModel);
+
+        Model importedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        new ImportCommand(filePath).execute(importedModel);
+        assertEquals(model.getAddressBook(), importedModel.getAddressBook());
+    }
+
+    @Test
+    public void execute_filteredList_exportsDisplayedStudents() throws Exception {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+        Path filePath = testFolder.resolve("students.csv");
+        assertCommandSuccess(new ExportCommand(filePath), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, filePath), expectedModel);
+
+        // the header and one student
+        assertEquals(2, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirst = new ExportCommand(Path.of("first.csv"));
+        ExportCommand exportSecond = new ExportCommand(Path.of("second.csv"));
+
+        assertEquals(exportFirst, exportFirst);
+        assertEquals(exportFirst, new ExportCommand(Path.of("first.csv")));
+        assertNotEquals(exportFirst, exportSecond);
+        assertNotEquals(exportFirst, null);
+        assertNotEquals(exportFirst, 1);
+    }
+}
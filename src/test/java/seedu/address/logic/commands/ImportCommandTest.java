@@ -0,0 +1,191 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = String.join(",", PersonCsvParser.HEADER);
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_validFile_importsAll() throws IOException {
+        Path filePath = writeCsv(HEADER, toCsv(AMY), toCsv(BOB));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(AMY, BOB));
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+        assertFalse(Files.exists(ImportCommand.getErrorReportPath(filePath)));
+    }
+
+    @Test
+    public void execute_fileWithByteOrderMark_importsAll() throws IOException {
+        // as saved by spreadsheet programs that mark the file as UTF-8
+        Path filePath = writeCsv("\uFEFF" + HEADER, toCsv(AMY), toCsv(BOB));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(AMY, BOB));
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_skippedAndReported() throws Exception {
+        Path filePath = writeCsv("Student ID,Name",
+                AMY.getStudentId() + "," + AMY.getName(),
+                "911a,Invalid Id",
+                ALICE.getStudentId() + ",Alice Again",
+                "",
+                BOB.getStudentId() + "," + BOB.getName(),
+                AMY.getStudentId() + ",Amy Again",
+                "A1111112E");
+        Path reportPath = ImportCommand.getErrorReportPath(filePath);
+        Files.writeString(reportPath, "stale report");
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        PersonCsvParser parser = PersonCsvParser.ofHeader(List.of("Student ID", "Name"));
+        expectedModel.addPersons(List.of(parser.parse(List.of(AMY.getStudentId().getValue(), AMY.getName().fullName)),
+                parser.parse(List.of(BOB.getStudentId().getValue(), BOB.getName().fullName))));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath)
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 4, reportPath);
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedMessage, expectedModel);
+
+        List<String> report = Files.readAllLines(reportPath);
+        assertEquals(4, report.size());
+        assertTrue(report.get(0).startsWith(String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, "")));
+        assertEquals(String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, ImportCommand.MESSAGE_DUPLICATE_STUDENT),
+                report.get(1));
+        assertEquals(String.format(ImportCommand.MESSAGE_ROW_ERROR, 7, ImportCommand.MESSAGE_DUPLICATE_STUDENT),
+                report.get(2));
+        assertEquals(String.format(ImportCommand.MESSAGE_ROW_ERROR, 8,
+                String.format(PersonCsvParser.MESSAGE_WRONG_FIELD_COUNT, 2, 1)), report.get(3));
+    }
+
+    @Test
+    public void execute_noRowsImported_addressBookUnchanged() throws IOException {
+        Path filePath = writeCsv(HEADER, "Invalid Name!,911a", toCsv(ALICE));
+        long generation = model.getAddressBookGeneration();
+
+        CommandResult result = assertImported(filePath, model, 0);
+        assertTrue(result.getFeedbackToUser().contains(String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 2,
+                ImportCommand.getErrorReportPath(filePath))));
+        assertEquals(generation, model.getAddressBookGeneration());
+
+        // a file with only a header changes nothing either
+        filePath = writeCsv(HEADER);
+        assertImported(filePath, model, 0);
+        assertEquals(generation, model.getAddressBookGeneration());
+    }
+
+    @Test
+    public void execute_moreRowsThanBatch_importsAll() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ImportCommand.BATCH_SIZE * 2 + 10; i++) {
+            Person person = new PersonBuilder().withName("Student " + i)
+                    .withStudentId(StudentId.fromKey(i + 1).getValue()).build();
+            persons.add(person);
+            lines.add(toCsv(person));
+        }
+        Path filePath = writeCsv(lines.toArray(String[]::new));
+
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        assertImported(filePath, model, persons.size());
+        assertEquals(persons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws IOException {
+        Path filePath = writeCsv("Name,Major", "Amy Bee,Law");
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_READ_ERROR,
+                filePath, String.format(PersonCsvParser.MESSAGE_MISSING_COLUMN, "Student ID")));
+    }
+
+    @Test
+    public void execute_malformedFile_importsNothing() throws IOException {
+        Path filePath = writeCsv(HEADER, toCsv(AMY), "\"Bob Choo,A2222222P");
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_READ_ERROR,
+                filePath, "Line 3: quoted field is not closed."));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirst = new ImportCommand(Path.of("first.csv"));
+        ImportCommand importSecond = new ImportCommand(Path.of("second.csv"));
+
+        assertEquals(importFirst, importFirst);
+        assertEquals(importFirst, new ImportCommand(Path.of("first.csv")));
+        assertNotEquals(importFirst, importSecond);
+        assertNotEquals(importFirst, null);
+        assertNotEquals(importFirst, 1);
+    }
+
+    private static CommandResult assertImported(Path filePath, Model model, int expectedCount) {
+        try {
+            CommandResult result = new ImportCommand(filePath).execute(model);
+            assertTrue(result.getFeedbackToUser().startsWith(
+                    String.format(ImportCommand.MESSAGE_SUCCESS, expectedCount, filePath)));
+            return result;
+        } catch (Exception e) {
+            throw new AssertionError("Execution of command should not fail.", e);
+        }
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path filePath = testFolder.resolve("students.csv");
+        Files.write(filePath, List.of(lines), StandardCharsets.UTF_8);
+        return filePath;
+    }
+
+    private static String toCsv(Person person) {
+        return String.join(",", PersonCsvParser.toRow(person));
+    }
+}
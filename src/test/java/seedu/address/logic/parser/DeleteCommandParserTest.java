@@ -7,10 +7,17 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.model.person.CompositePredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -28,6 +35,42 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_indexesAndRanges_returnsDeleteCommand() {
+        assertParseSuccess(parser, " 3 5  10-40 ", new DeleteCommand(List.of(IndexRange.of(Index.fromOneBased(3)),
+                IndexRange.of(Index.fromOneBased(5)),
+                new IndexRange(Index.fromOneBased(10), Index.fromOneBased(40)))));
+        assertParseSuccess(parser, "2-2", new DeleteCommand(INDEX_SECOND_PERSON));
+    }
+
+    @Test
+    public void parse_findCriteria_returnsDeleteCommand() {
+        CompositePredicate predicate = new CompositePredicate();
+        predicate.addPredicate(new NameContainsKeywordsPredicate(List.of("Alice", "Bob")));
+        assertParseSuccess(parser, " n/ Alice Bob", new DeleteCommand(predicate));
+    }
+
+    @Test
+    public void parse_indexesWithFindCriteria_throwsParseException() {
+        // the delete usage is reported once, not after the find usage
+        assertParseFailure(parser, "1 n/ Alice",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        String errorMessage = String.format("%s \n%s",
+                String.format(ParserUtil.MESSAGE_INVALID_INDEX_RANGE, "5-3"),
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 5-3", errorMessage);
+
+        errorMessage = String.format("%s \n%s",
+                MESSAGE_INVALID_INDEX,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1-", errorMessage);
+        assertParseFailure(parser, "1 0-3", errorMessage);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         String errorMessage = String.format("%s \n%s",
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class PersonCsvParserTest {
+
+    @Test
+    public void toRow_parse_equalPersons() throws ParseException {
+        PersonCsvParser parser = PersonCsvParser.ofHeader(PersonCsvParser.HEADER);
+        for (Person person : TypicalPersons.getTypicalPersons()) {
+            assertEquals(person, parser.parse(PersonCsvParser.toRow(person)));
+        }
+
+        Person withGroups = new PersonBuilder().withGroups("group 1", "Lab A").withComment("Sits at the back, left")
+                .build();
+        Person parsed = parser.parse(PersonCsvParser.toRow(withGroups));
+        assertEquals(withGroups, parsed);
+        assertEquals(withGroups.getGroups(), parsed.getGroups());
+        assertEquals(withGroups.getComment(), parsed.getComment());
+    }
+
+    @Test
+    public void parse_reorderedAndMissingColumns_success() throws ParseException {
+        PersonCsvParser parser = PersonCsvParser.ofHeader(List.of(" student_id ", "NAME", "groups"));
+        Person person = parser.parse(List.of("A1234567P", " Alice Pauline ", "group 1; Lab A;"));
+
+        assertEquals("Alice Pauline", person.getName().fullName);
+        assertEquals("A1234567P", person.getStudentId().getValue());
+        assertEquals(2, person.getGroups().size());
+        assertTrue(person.getMajor().value.isEmpty());
+        assertTrue(person.getYear().value.isEmpty());
+        assertTrue(person.getComment().value.isEmpty());
+    }
+
+    @Test
+    public void ofHeader_invalidHeader_throwsParseException() {
+        assertThrows(ParseException.class, PersonCsvParser.MESSAGE_MISSING_HEADER, () -> PersonCsvParser.ofHeader(
+                null));
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_MISSING_COLUMN, "Student ID"), () ->
+                PersonCsvParser.ofHeader(List.of("Name", "Major")));
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_UNKNOWN_COLUMN, "Phone"), () ->
+                PersonCsvParser.ofHeader(List.of("Name", "Student ID", " Phone")));
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_DUPLICATE_COLUMN, "Name"), () ->
+                PersonCsvParser.ofHeader(List.of("Name", "Student ID", "name")));
+    }
+
+    @Test
+    public void parse_invalidRow_throwsParseException() throws ParseException {
+        PersonCsvParser parser = PersonCsvParser.ofHeader(List.of("Name", "Student ID"));
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_WRONG_FIELD_COUNT, 2, 3), () ->
+                parser.parse(List.of("Alice", "A1234567P", "extra")));
+        assertThrows(ParseException.class, StudentId.MESSAGE_CONSTRAINTS, () ->
+                parser.parse(List.of("Alice", "911a")));
+    }
+}
@@ -7,20 +7,28 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GROUP_ONE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MAJOR_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.attendance.exceptions.DuplicateAttendanceEventException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -79,6 +87,200 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsWithNameKeywords_afterMutations_staysInSync() {
+        addressBook.addPerson(ALICE);
+        assertEquals(1, addressBook.getPersonsWithNameKeywords(Collections.singletonList("alice")).size());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertTrue(addressBook.getPersonsWithNameKeywords(Collections.singletonList("alice")).isEmpty());
+        assertTrue(addressBook.getPersonsWithNameKeywords(Collections.singletonList("alicia"))
+                .contains(renamedAlice));
+
+        addressBook.removePerson(renamedAlice);
+        assertTrue(addressBook.getPersonsWithNameKeywords(Collections.singletonList("pauline")).isEmpty());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(2, addressBook.getPersonsWithNameKeywords(Collections.singletonList("meier")).size());
+    }
+
+    @Test
+    public void getAttendanceEvent_differentCase_returnsEvent() {
+        AttendanceEvent event = new AttendanceEvent("Tutorial 1");
+        addressBook.addAttendanceEvent(event);
+        assertEquals(Optional.of(event), addressBook.getAttendanceEvent("TUTORIAL 1"));
+        assertTrue(addressBook.hasAttendanceEvent(new AttendanceEvent("tutorial 1")));
+        assertEquals(Optional.empty(), addressBook.getAttendanceEvent("Tutorial 2"));
+    }
+
+    @Test
+    public void addAttendanceEvent_sameNameDifferentCase_throwsDuplicateAttendanceEventException() {
+        addressBook.addAttendanceEvent(new AttendanceEvent("Tutorial 1"));
+        assertThrows(DuplicateAttendanceEventException.class, () ->
+                addressBook.addAttendanceEvent(new AttendanceEvent("TUTORIAL 1")));
+    }
+
+    @Test
+    public void removeAttendanceEvent_existingEvent_removedFromListAndLookup() {
+        AttendanceEvent event = new AttendanceEvent("Tutorial 1");
+        addressBook.addAttendanceEvent(event);
+        addressBook.removeAttendanceEvent(event);
+        assertTrue(addressBook.getAttendanceEventList().isEmpty());
+        assertFalse(addressBook.hasAttendanceEvent(event));
+
+        // event can be created again
+        addressBook.addAttendanceEvent(new AttendanceEvent("tutorial 1"));
+        assertEquals(1, addressBook.getAttendanceEventList().size());
+    }
+
+    @Test
+    public void getGeneration_changesOnlyOnMutation() {
+        long generation = addressBook.getGeneration();
+        addressBook.hasPerson(ALICE);
+        addressBook.getAttendanceEvent("Tutorial 1");
+        addressBook.snapshot();
+        assertEquals(generation, addressBook.getGeneration());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getGeneration() != generation);
+
+        generation = addressBook.getGeneration();
+        AttendanceEvent event = new AttendanceEvent("Tutorial 1");
+        addressBook.addAttendanceEvent(event);
+        assertTrue(addressBook.getGeneration() != generation);
+
+        generation = addressBook.getGeneration();
+        addressBook.markAttendance(event, ALICE.getStudentId(), true);
+        assertTrue(addressBook.getGeneration() != generation);
+    }
+
+    @Test
+    public void snapshot_laterPersonChanges_notReflected() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(ALICE);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertEquals(Collections.singletonList(BENSON), addressBook.getPersonList());
+        assertEquals(addressBook.getPersonList(), addressBook.snapshot().getPersonList());
+    }
+
+    @Test
+    public void snapshot_laterAttendanceChanges_notReflected() {
+        addressBook.addPerson(ALICE);
+        AttendanceEvent event = new AttendanceEvent("Tutorial 1");
+        addressBook.addAttendanceEvent(event);
+        addressBook.markAttendance(event, ALICE.getStudentId(), true);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        addressBook.markAttendance(event, ALICE.getStudentId(), false);
+        addressBook.addAttendanceEvent(new AttendanceEvent("Tutorial 2"));
+
+        assertEquals(1, snapshot.getAttendanceEventList().size());
+        assertTrue(snapshot.getAttendanceEventList().get(0).isStudentPresent(ALICE.getStudentId()));
+        assertFalse(addressBook.getAttendanceEvent("Tutorial 1").get().isStudentPresent(ALICE.getStudentId()));
+        assertEquals(2, addressBook.getAttendanceEventList().size());
+    }
+
+    @Test
+    public void resetData_fromSnapshot_copiesChangedEventsOnly() {
+        addressBook.addPerson(ALICE);
+        addressBook.addAttendanceEvent(new AttendanceEvent("Tutorial 1"));
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        AddressBook restored = new AddressBook(snapshot);
+        AttendanceEvent restoredEvent = restored.getAttendanceEvent("Tutorial 1").get();
+        restored.markAttendance(restoredEvent, ALICE.getStudentId(), true);
+
+        assertFalse(snapshot.getAttendanceEventList().get(0).isStudentPresent(ALICE.getStudentId()));
+        assertTrue(restored.getAttendanceEvent("Tutorial 1").get().isStudentPresent(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void addPersons_emptyList_generationUnchanged() {
+        long generation = addressBook.getGeneration();
+        addressBook.addPersons(List.of());
+        assertEquals(generation, addressBook.getGeneration());
+    }
+
+    @Test
+    public void applyBatch_mixedChanges_appliedAsOneChange() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person editedBenson = new PersonBuilder(BENSON).withName("Bernard Meier").build();
+        List<Person> expectedPersons = new ArrayList<>(addressBook.getPersonList());
+        expectedPersons.remove(ALICE);
+        expectedPersons.set(expectedPersons.indexOf(BENSON), editedBenson);
+        expectedPersons.add(AMY);
+        int[] changeCount = new int[1];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+        long generation = addressBook.getGeneration();
+
+        addressBook.applyBatch(batch -> {
+            batch.deletePerson(ALICE);
+            batch.setPerson(BENSON, editedBenson);
+            batch.addPerson(AMY);
+        });
+
+        assertEquals(expectedPersons, addressBook.getPersonList());
+        assertEquals(1, changeCount[0]);
+        assertEquals(generation + 1, addressBook.getGeneration());
+        assertTrue(addressBook.getPersonsWithNameKeywords(List.of("alice")).isEmpty());
+        assertEquals(Set.of(editedBenson), addressBook.getPersonsWithNameKeywords(List.of("bernard", "benson")));
+        assertTrue(addressBook.getPersonsWithNameKeywords(List.of("amy")).contains(AMY));
+    }
+
+    @Test
+    public void applyBatch_changesSeeEarlierChanges() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person editedAmy = new PersonBuilder(AMY).withStudentId("A7654321P").build();
+
+        addressBook.applyBatch(batch -> {
+            batch.addPerson(AMY);
+            assertTrue(batch.hasPerson(AMY));
+            batch.setPerson(AMY, editedAmy);
+            assertFalse(batch.hasPerson(AMY));
+            batch.deletePerson(BENSON);
+            assertThrows(PersonNotFoundException.class, () -> batch.deletePerson(BENSON));
+            batch.addPerson(BENSON);
+        });
+
+        List<Person> persons = addressBook.getPersonList();
+        assertEquals(List.of(editedAmy, BENSON), persons.subList(persons.size() - 2, persons.size()));
+        assertEquals(Optional.of(editedAmy), addressBook.findByStudentId(editedAmy.getStudentId()));
+        assertFalse(addressBook.hasPerson(AMY));
+    }
+
+    @Test
+    public void applyBatch_failingChange_addressBookUnchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        int[] changeCount = new int[1];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+        long generation = addressBook.getGeneration();
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.applyBatch(batch -> {
+            batch.deletePerson(ALICE);
+            batch.addPerson(AMY);
+            batch.addPerson(BENSON);
+        }));
+
+        assertEquals(expectedAddressBook, addressBook);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertFalse(addressBook.hasPerson(AMY));
+        assertEquals(0, changeCount[0]);
+        assertEquals(generation, addressBook.getGeneration());
+    }
+
+    @Test
+    public void applyBatch_batchUsedAfterApply_throwsIllegalStateException() {
+        MutableAddressBook[] leakedBatch = new MutableAddressBook[1];
+        addressBook.applyBatch(batch -> leakedBatch[0] = batch);
+        assertThrows(IllegalStateException.class, () -> leakedBatch[0].addPerson(AMY));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -7,16 +7,26 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.attendance.AttendanceStatusPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +98,99 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findByStudentId_nullStudentId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findByStudentId(null));
+    }
+
+    @Test
+    public void findByStudentId_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.findByStudentId(ALICE.getStudentId()));
+        assertEquals(Optional.empty(), modelManager.findByStudentId(BENSON.getStudentId()));
+    }
+
+    @Test
+    public void getAttendancePredicate_missingEvent_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> modelManager.getAttendancePredicate("Event1", true));
+    }
+
+    @Test
+    public void getAttendancePredicate_unmarkedStudentsCountAsAbsent() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.addAttendanceEvent(new AttendanceEvent("Event1"));
+        modelManager.markStudentAttendance("Event1", ALICE.getStudentId(), true);
+        modelManager.markStudentAttendance("Event1", BENSON.getStudentId(), false);
+
+        AttendanceStatusPredicate present = modelManager.getAttendancePredicate("event1", true);
+        assertEquals(1, present.getMatchCount());
+        assertTrue(present.test(ALICE));
+        assertFalse(present.test(BENSON));
+
+        AttendanceStatusPredicate absent = modelManager.getAttendancePredicate("Event1", false);
+        assertEquals(2, absent.getMatchCount());
+        assertFalse(absent.test(ALICE));
+        assertTrue(absent.test(BENSON));
+        assertTrue(absent.test(CARL));
+    }
+
+    @Test
+    public void getAttendanceEvent_overMemoryBudget_leastRecentlyUsedEventsUnloaded() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addAttendanceEvent(new AttendanceEvent("Event1", () -> Map.of(ALICE.getStudentId(), true)));
+        addressBook.addAttendanceEvent(new AttendanceEvent("Event2", () -> Map.of(ALICE.getStudentId(), false)));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAttendanceMemoryBudgetBytes(0);
+        modelManager = new ModelManager(addressBook, userPrefs);
+
+        AttendanceEvent first = modelManager.getAttendanceEvent("Event1").get();
+        assertTrue(first.isLoaded());
+
+        // the event just used stays loaded, even over the budget
+        AttendanceEvent second = modelManager.getAttendanceEvent("event2").get();
+        assertTrue(second.isLoaded());
+        assertFalse(first.isLoaded());
+        assertTrue(first.isStudentPresent(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void addPerson_showingAllPersons_singleElementChange() {
+        modelManager.addPerson(ALICE);
+        List<String> changes = recordFilteredListChanges();
+
+        modelManager.addPerson(BENSON);
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+
+        assertEquals(Arrays.asList("added 1 at 1", "replaced 1 at 0"), changes);
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void addPerson_filterActive_showsAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        modelManager.addPerson(CARL);
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
+    private List<String> recordFilteredListChanges() {
+        List<String> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getAddedSize() + " at " + change.getFrom());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getAddedSize() + " at " + change.getFrom());
+                } else {
+                    changes.add("other");
+                }
+            }
+        });
+        return changes;
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -18,4 +18,11 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAttendanceMemoryBudgetBytes_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_INVALID_ATTENDANCE_MEMORY_BUDGET, () ->
+                userPrefs.setAttendanceMemoryBudgetBytes(-1));
+    }
+
 }
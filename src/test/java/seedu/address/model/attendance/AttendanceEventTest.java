@@ -0,0 +1,234 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.attendance.exceptions.AttendanceLoadingException;
+import seedu.address.model.person.StudentId;
+
+public class AttendanceEventTest {
+
+    private static final StudentId FIRST_ID = new StudentId("A1234567X");
+    private static final StudentId SECOND_ID = new StudentId("A7654321Y");
+
+    @Test
+    public void markAttendance_nullStudentId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AttendanceEvent("Event1").markAttendance(null, true));
+    }
+
+    @Test
+    public void isStudentPresent_markedAndUnmarked_returnsLatestStatus() {
+        AttendanceEvent event = new AttendanceEvent("Event1");
+        assertFalse(event.isStudentPresent(FIRST_ID));
+
+        event.markAttendance(FIRST_ID, true);
+        event.markAttendance(SECOND_ID, false);
+        assertTrue(event.isStudentPresent(FIRST_ID));
+        assertFalse(event.isStudentPresent(SECOND_ID));
+        assertEquals(1, event.getPresentCount());
+
+        event.markAttendance(FIRST_ID, false);
+        assertFalse(event.isStudentPresent(FIRST_ID));
+        assertEquals(0, event.getPresentCount());
+    }
+
+    @Test
+    public void getAttendanceRecords_isLiveUnmodifiableView() {
+        AttendanceEvent event = new AttendanceEvent("Event1");
+        Map<StudentId, Boolean> records = event.getAttendanceRecords();
+        assertTrue(records.isEmpty());
+
+        event.markAttendance(FIRST_ID, true);
+        event.markAttendance(SECOND_ID, false);
+
+        Map<StudentId, Boolean> expected = new HashMap<>();
+        expected.put(FIRST_ID, true);
+        expected.put(SECOND_ID, false);
+        assertEquals(expected, records);
+        assertNull(records.get(new StudentId("A0000000A")));
+        assertThrows(UnsupportedOperationException.class, () -> records.put(FIRST_ID, false));
+    }
+
+    @Test
+    public void bindTo_otherOrdinals_keepsRecords() {
+        StudentOrdinals studentOrdinals = new StudentOrdinals();
+        studentOrdinals.ordinalOf(SECOND_ID);
+
+        AttendanceEvent event = new AttendanceEvent("Event1");
+        event.markAttendance(FIRST_ID, true);
+        event.markAttendance(SECOND_ID, false);
+        AttendanceEvent copy = new AttendanceEvent("Event1");
+        copy.markAttendance(FIRST_ID, true);
+        copy.markAttendance(SECOND_ID, false);
+
+        event.bindTo(studentOrdinals);
+        assertSame(studentOrdinals, event.getStudentOrdinals());
+        assertTrue(event.isStudentPresent(FIRST_ID));
+        assertTrue(event.isPresent(studentOrdinals.find(FIRST_ID)));
+        assertFalse(event.isStudentPresent(SECOND_ID));
+        assertEquals(copy, event);
+    }
+
+    @Test
+    public void equals() {
+        AttendanceEvent event = new AttendanceEvent("Event1");
+        event.markAttendance(FIRST_ID, true);
+
+        AttendanceEvent sameRecords = new AttendanceEvent("EVENT1");
+        sameRecords.markAttendance(FIRST_ID, true);
+        assertTrue(event.equals(sameRecords));
+
+        // same ordinals -> compares bitmaps
+        AttendanceEvent sharedOrdinals = new AttendanceEvent("Event1", event.getStudentOrdinals());
+        sharedOrdinals.markAttendance(FIRST_ID, false);
+        assertFalse(event.equals(sharedOrdinals));
+        sharedOrdinals.markAttendance(FIRST_ID, true);
+        assertTrue(event.equals(sharedOrdinals));
+
+        // unmarked differs from marked absent
+        AttendanceEvent markedAbsent = new AttendanceEvent("Event1");
+        markedAbsent.markAttendance(FIRST_ID, true);
+        markedAbsent.markAttendance(SECOND_ID, false);
+        assertFalse(event.equals(markedAbsent));
+
+        assertFalse(event.equals(new AttendanceEvent("Event2")));
+        assertFalse(event.equals(null));
+    }
+
+    @Test
+    public void unloadedEvent_recordsNeeded_loadedOnce() {
+        CountingSource source = new CountingSource();
+        AttendanceEvent event = new AttendanceEvent("Event1", source);
+        assertFalse(event.isLoaded());
+
+        // binding and copying do not need the records
+        StudentOrdinals studentOrdinals = new StudentOrdinals();
+        event.bindTo(studentOrdinals);
+        AttendanceEvent copy = new AttendanceEvent(event, studentOrdinals);
+        assertEquals(copy, event);
+        assertEquals(0, source.loadCount);
+
+        assertTrue(event.isStudentPresent(FIRST_ID));
+        assertEquals(Map.of(FIRST_ID, true, SECOND_ID, false), event.getAttendanceRecords());
+        assertTrue(event.isLoaded());
+        assertEquals(1, source.loadCount);
+        assertFalse(copy.isLoaded());
+    }
+
+    @Test
+    public void unload_unchangedOrChanged_unloadsOnlyUnchanged() {
+        CountingSource source = new CountingSource();
+        AttendanceEvent event = new AttendanceEvent("Event1", source);
+        event.load();
+        assertTrue(event.unload());
+        assertFalse(event.isLoaded());
+        assertEquals(1, event.getPresentCount());
+        assertEquals(2, source.loadCount);
+
+        event.markAttendance(SECOND_ID, true);
+        assertFalse(event.unload());
+        assertEquals(2, event.getPresentCount());
+
+        // events without a source cannot be unloaded
+        assertFalse(new AttendanceEvent("Event2").unload());
+    }
+
+    @Test
+    public void getAttendanceRecords_unloadedWhileIterating_iteratesLoadedRecords() {
+        AttendanceEvent event = new AttendanceEvent("Event1", new CountingSource());
+        Iterator<Map.Entry<StudentId, Boolean>> records = event.getAttendanceRecords().entrySet().iterator();
+        assertTrue(records.hasNext());
+        assertTrue(event.unload());
+
+        Map<StudentId, Boolean> iterated = new HashMap<>();
+        records.forEachRemaining(record -> iterated.put(record.getKey(), record.getValue()));
+        assertEquals(Map.of(FIRST_ID, true, SECOND_ID, false), iterated);
+    }
+
+    @Test
+    public void getAttendanceRecords_unloadedEvent_readWithoutLoading() {
+        CountingSource source = new CountingSource();
+        AttendanceEvent event = new AttendanceEvent("Event1", source);
+
+        assertEquals(Map.of(FIRST_ID, true, SECOND_ID, false), event.getAttendanceRecords());
+        assertEquals(false, event.getAttendanceRecords().get(SECOND_ID));
+        assertFalse(event.isLoaded());
+        assertTrue(source.loadCount > 0);
+    }
+
+    @Test
+    public void equals_unloadedCopies_leftUnloaded() {
+        CountingSource source = new CountingSource();
+        AttendanceEvent event = new AttendanceEvent("Event1", source);
+        AttendanceEvent otherEvent = new AttendanceEvent("Event1", source);
+
+        assertTrue(event.equals(otherEvent));
+        assertFalse(event.isLoaded());
+        assertFalse(otherEvent.isLoaded());
+
+        // a copy of an event is equal to it without loading either
+        source.loadCount = 0;
+        AttendanceEvent copy = new AttendanceEvent(event, event.getStudentOrdinals());
+        assertTrue(copy.equals(event));
+        assertEquals(0, source.loadCount);
+    }
+
+    @Test
+    public void countLoadedSizeIn_loadedAndUnloaded_counterFollowsLoadedSize() {
+        AttendanceEvent event = new AttendanceEvent("Event1", new CountingSource());
+        AtomicLong counter = new AtomicLong();
+        event.countLoadedSizeIn(counter);
+        assertEquals(0, counter.get());
+
+        event.load();
+        assertTrue(counter.get() > 0);
+        assertEquals(event.getLoadedSize(), counter.get());
+
+        AtomicLong otherCounter = new AtomicLong();
+        event.countLoadedSizeIn(otherCounter);
+        assertEquals(0, counter.get());
+        assertEquals(event.getLoadedSize(), otherCounter.get());
+
+        event.unload();
+        assertEquals(0, otherCounter.get());
+    }
+
+    @Test
+    public void load_sourceFails_throwsAttendanceLoadingException() {
+        AttendanceEvent event = new AttendanceEvent("Event1", () -> {
+            throw new DataLoadingException(new IOException("dummy IO exception"));
+        });
+        assertThrows(AttendanceLoadingException.class, () -> event.isStudentPresent(FIRST_ID));
+        assertFalse(event.isLoaded());
+    }
+
+    /**
+     * A source of the attendance records of {@code FIRST_ID} and {@code SECOND_ID}, which counts its loads.
+     */
+    private static class CountingSource implements AttendanceSource {
+        private int loadCount;
+
+        @Override
+        public Map<StudentId, Boolean> loadAttendanceRecords() {
+            loadCount++;
+            Map<StudentId, Boolean> records = new LinkedHashMap<>();
+            records.put(FIRST_ID, true);
+            records.put(SECOND_ID, false);
+            return records;
+        }
+    }
+}
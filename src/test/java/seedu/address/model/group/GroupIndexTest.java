@@ -0,0 +1,102 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class GroupIndexTest {
+
+    private final GroupIndex groupIndex = new GroupIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> groupIndex.add(null));
+    }
+
+    @Test
+    public void getMembers_caseInsensitiveGroupName_returnsMembers() {
+        groupIndex.add(ALICE);
+        groupIndex.add(BENSON);
+        groupIndex.add(CARL);
+
+        Set<Person> members = groupIndex.getMembers(new Group("GROUP 1"));
+        assertEquals(2, members.size());
+        assertTrue(members.contains(ALICE));
+        assertTrue(members.contains(BENSON));
+        assertTrue(groupIndex.getMembers(new Group("group 9")).isEmpty());
+    }
+
+    @Test
+    public void getMembersOfGroupsMatchingAny_sameAsPredicate() {
+        groupIndex.setPersons(getTypicalPersons());
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("1"),
+                Collections.singletonList("14"),
+                Collections.singletonList("GrOuP"),
+                Collections.singletonList("gro"),
+                Arrays.asList("2", "5"),
+                Collections.singletonList("50"));
+
+        for (List<String> keywords : keywordLists) {
+            GroupContainsKeywordsPredicate predicate = new GroupContainsKeywordsPredicate(keywords);
+            Set<Person> matches = groupIndex.getMembersOfGroupsMatchingAny(keywords);
+            for (Person person : getTypicalPersons()) {
+                assertEquals(predicate.test(person), matches.contains(person), keywords + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void remove_lastMember_dropsGroup() {
+        groupIndex.add(CARL);
+        groupIndex.remove(CARL);
+        assertTrue(groupIndex.getMembersOfGroupsMatchingAny(Collections.singletonList("group")).isEmpty());
+        assertTrue(groupIndex.getGroupMemberCounts().isEmpty());
+    }
+
+    @Test
+    public void remove_groupSharingPrefix_keepsOtherGroups() {
+        Person inGroupOne = new PersonBuilder().withStudentId("A1111111A").withGroups("group 1").build();
+        groupIndex.add(inGroupOne);
+        groupIndex.add(FIONA);
+        groupIndex.remove(inGroupOne);
+
+        Set<Person> matches = groupIndex.getMembersOfGroupsMatchingAny(Collections.singletonList("group 1"));
+        assertEquals(1, matches.size());
+        assertTrue(matches.contains(FIONA));
+        assertFalse(groupIndex.getMembersOfGroupsMatchingAny(Collections.singletonList("1")).contains(inGroupOne));
+    }
+
+    @Test
+    public void getGroupMemberCounts_orderedByName() {
+        groupIndex.setPersons(Arrays.asList(ALICE, BENSON, CARL, FIONA, GEORGE));
+
+        Map<Group, Integer> counts = groupIndex.getGroupMemberCounts();
+        List<String> groupNames = new ArrayList<>();
+        counts.keySet().forEach(group -> groupNames.add(group.getGroupName()));
+
+        assertEquals(Arrays.asList("group 1", "group 14", "group 2"), groupNames);
+        assertEquals(2, counts.get(new Group("group 1")));
+        assertEquals(2, counts.get(new Group("group 14")));
+        assertEquals(1, counts.get(new Group("group 2")));
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.group;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -21,6 +23,20 @@ public class GroupTest {
         assertThrows(IllegalArgumentException.class, () -> new Group(invalidGroupName));
     }
 
+    @Test
+    public void makeGroup_invalidGroupName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Group.makeGroup(""));
+    }
+
+    @Test
+    public void makeGroup_sameName_returnsSameInstance() {
+        assertSame(Group.makeGroup("Tutorial 1"), Group.makeGroup("Tutorial 1"));
+
+        // names differing in case are equal but keep their own instances
+        assertEquals(Group.makeGroup("Tutorial 1"), Group.makeGroup("tutorial 1"));
+        assertNotSame(Group.makeGroup("Tutorial 1"), Group.makeGroup("tutorial 1"));
+    }
+
     @Test
     public void testIsValidGroupName_null_throwsNullPointerException() {
         // null group name
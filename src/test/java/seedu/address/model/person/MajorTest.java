@@ -20,6 +20,11 @@ public class MajorTest {
         assertSame(expectedMajor, Major.makeMajor(""));
     }
 
+    @Test
+    public void factory_equalMajors_returnsSameInstance() {
+        assertSame(Major.makeMajor("Computer Science"), Major.makeMajor("Computer Science"));
+    }
+
 
     @Test
     public void isValidMajor() {
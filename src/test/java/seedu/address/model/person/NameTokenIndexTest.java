@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void tokenize_mixedCaseAndSpaces_returnsLowercasedWords() {
+        assertArrayEquals(new String[] {"alice", "pauline"}, NameTokenIndex.tokenize(new Name("Alice   PAULINE")));
+    }
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTokenIndex.add(null));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTokenIndex.getPersonsMatchingAny(null));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_caseInsensitiveFullWord_returnsMatches() {
+        nameTokenIndex.add(ALICE);
+        nameTokenIndex.add(BENSON);
+        nameTokenIndex.add(DANIEL);
+
+        Set<Person> matches = nameTokenIndex.getPersonsMatchingAny(Collections.singletonList("mEiEr"));
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(BENSON));
+        assertTrue(matches.contains(DANIEL));
+
+        // partial words do not match
+        assertTrue(nameTokenIndex.getPersonsMatchingAny(Collections.singletonList("Al")).isEmpty());
+
+        // any keyword matches
+        assertEquals(3, nameTokenIndex.getPersonsMatchingAny(Arrays.asList("alice", "meier")).size());
+    }
+
+    @Test
+    public void getPersonsMatchingAny_equalButDistinctPerson_notMatched() {
+        nameTokenIndex.add(ALICE);
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertFalse(nameTokenIndex.getPersonsMatchingAny(Collections.singletonList("alice")).contains(aliceCopy));
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerMatched() {
+        nameTokenIndex.add(ALICE);
+        nameTokenIndex.add(BENSON);
+        nameTokenIndex.remove(ALICE);
+        assertTrue(nameTokenIndex.getPersonsMatchingAny(Arrays.asList("alice", "pauline")).isEmpty());
+        assertEquals(Collections.singleton(BENSON),
+                Set.copyOf(nameTokenIndex.getPersonsMatchingAny(Collections.singletonList("benson"))));
+    }
+
+    @Test
+    public void setPersons_replacesContents() {
+        nameTokenIndex.add(ALICE);
+        nameTokenIndex.setPersons(Collections.singletonList(BENSON));
+        assertTrue(nameTokenIndex.getPersonsMatchingAny(Collections.singletonList("alice")).isEmpty());
+        assertEquals(1, nameTokenIndex.getPersonsMatchingAny(Collections.singletonList("benson")).size());
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonPositionsTest {
+
+    private final PersonPositions positions = new PersonPositions();
+
+    @Test
+    public void positionOf_nullStudentId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> positions.positionOf(null));
+    }
+
+    @Test
+    public void remove_personInMiddle_laterPositionsShift() {
+        positions.setAll(List.of(ALICE, BENSON, CARL));
+        assertEquals(1, positions.remove(BENSON.getStudentId()));
+        assertEquals(0, positions.positionOf(ALICE.getStudentId()));
+        assertEquals(1, positions.positionOf(CARL.getStudentId()));
+    }
+
+    @Test
+    public void replace_differentStudentId_keepsPosition() {
+        positions.setAll(List.of(ALICE, BENSON));
+        positions.replace(ALICE.getStudentId(), DANIEL.getStudentId());
+        assertEquals(0, positions.positionOf(DANIEL.getStudentId()));
+        assertEquals(1, positions.positionOf(BENSON.getStudentId()));
+    }
+
+    @Test
+    public void add_beyondReservedSlots_renumbersInOrder() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            positions.reserve(persons, 1);
+            Person person = new PersonBuilder().withStudentId(StudentId.fromKey(i).getValue()).build();
+            persons.add(person);
+            positions.add(person.getStudentId());
+            if (i % 3 == 0) {
+                // freed slots are not taken again until the persons are renumbered
+                assertEquals(0, positions.remove(persons.remove(0).getStudentId()));
+            }
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(i, positions.positionOf(persons.get(i).getStudentId()));
+        }
+    }
+
+    @Test
+    public void setAll_otherPositions_copied() {
+        PersonPositions other = new PersonPositions();
+        other.setAll(List.of(BENSON, ALICE));
+        positions.setAll(other);
+        other.remove(BENSON.getStudentId());
+        assertEquals(1, positions.positionOf(ALICE.getStudentId()));
+    }
+}
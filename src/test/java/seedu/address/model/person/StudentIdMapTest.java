@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class StudentIdMapTest {
+
+    private static final StudentId FIRST_ID = new StudentId("A1234567X");
+    private static final StudentId SECOND_ID = new StudentId("A1234567Y");
+
+    private final StudentIdMap<String> map = new StudentIdMap<>();
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> map.put(FIRST_ID, null));
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        assertNull(map.put(FIRST_ID, "first"));
+        assertEquals("first", map.put(new StudentId("a1234567x"), "replaced"));
+        assertEquals("replaced", map.get(FIRST_ID));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void putIfAbsent_existingKey_keepsValue() {
+        map.put(FIRST_ID, "first");
+        assertEquals("first", map.putIfAbsent(FIRST_ID, "second"));
+        assertNull(map.putIfAbsent(SECOND_ID, "second"));
+        assertEquals("first", map.get(FIRST_ID));
+        assertEquals("second", map.get(SECOND_ID));
+    }
+
+    @Test
+    public void remove_missingKey_returnsNull() {
+        map.put(FIRST_ID, "first");
+        assertNull(map.remove(SECOND_ID));
+        assertEquals("first", map.remove(FIRST_ID));
+        assertFalse(map.containsKey(FIRST_ID));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void copyConstructor_laterChanges_notShared() {
+        map.put(FIRST_ID, "first");
+        StudentIdMap<String> copy = new StudentIdMap<>(map);
+        map.remove(FIRST_ID);
+        assertEquals("first", copy.get(FIRST_ID));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Random random = new Random(42);
+        List<StudentId> studentIds = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            studentIds.add(new StudentId(String.format("A%07d%c", random.nextInt(2000), 'A' + random.nextInt(3))));
+        }
+
+        Map<StudentId, String> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            StudentId studentId = studentIds.get(random.nextInt(studentIds.size()));
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(studentId, "v" + i), map.put(studentId, "v" + i));
+            } else {
+                assertEquals(expected.remove(studentId), map.remove(studentId));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (StudentId studentId : studentIds) {
+            assertEquals(expected.get(studentId), map.get(studentId));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -32,6 +33,10 @@ public class StudentIdTest {
         assertFalse(StudentId.isValidStudentId("123456789")); // all numbers
         assertFalse(StudentId.isValidStudentId("abcdefghi")); // all alphabets
         assertFalse(StudentId.isValidStudentId("A312 1534L")); // spaces inside
+        assertFalse(StudentId.isValidStudentId("B1234567L")); // wrong prefix
+        assertFalse(StudentId.isValidStudentId("A12345678")); // no check letter
+        assertFalse(StudentId.isValidStudentId("A123456\u0663L")); // non-ASCII digit
+        assertFalse(StudentId.isValidStudentId("A1234567LL")); // too long
 
         // valid studentIds
         assertTrue(StudentId.isValidStudentId("A1234567L")); // correct format
@@ -56,5 +61,23 @@ public class StudentIdTest {
 
         // different values -> returns false
         assertFalse(studentId.equals(new StudentId("A1000000E")));
+        assertFalse(studentId.equals(new StudentId("A1234567F")));
+    }
+
+    @Test
+    public void fromKey_keyOfStudentId_equalStudentId() {
+        StudentId studentId = new StudentId("a0012345z");
+        StudentId fromKey = StudentId.fromKey(studentId.getKey());
+        assertEquals(studentId, fromKey);
+        assertEquals("A0012345Z", fromKey.getValue());
+
+        assertThrows(IllegalArgumentException.class, () -> StudentId.fromKey(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                StudentId.fromKey(new StudentId("A9999999Z").getKey() + 1));
+    }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new StudentId("A1234567E").hashCode(), new StudentId("a1234567e").hashCode());
     }
 }
@@ -9,9 +9,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +51,31 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void findByStudentId_nullStudentId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findByStudentId(null));
+    }
+
+    @Test
+    public void findByStudentId_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.findByStudentId(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void findByStudentId_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByStudentId(new StudentId("a1234567p")));
+    }
+
+    @Test
+    public void findByStudentId_afterSetPersonWithDifferentIdentity_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByStudentId(ALICE.getStudentId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByStudentId(BOB.getStudentId()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -126,6 +154,40 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersonAndRemove_manyChanges_matchPlainList() {
+        // enough persons added, edited and removed for the positions of persons to be renumbered several times
+        List<Person> expected = new ArrayList<>();
+        Random random = new Random(1);
+        int nextKey = 1;
+        for (int i = 0; i < 2000; i++) {
+            int choice = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (choice <= 1) {
+                Person person = new PersonBuilder().withStudentId(StudentId.fromKey(nextKey++).getValue()).build();
+                uniquePersonList.add(person);
+                expected.add(person);
+            } else if (choice == 2) {
+                int index = random.nextInt(expected.size());
+                Person edited = new PersonBuilder(expected.get(index))
+                        .withStudentId(StudentId.fromKey(nextKey++).getValue()).build();
+                uniquePersonList.setPerson(expected.get(index), edited);
+                expected.set(index, edited);
+            } else {
+                uniquePersonList.remove(expected.remove(random.nextInt(expected.size())));
+            }
+        }
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(expected, uniquePersonList.snapshot());
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
     }
 
     @Test
@@ -155,6 +217,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -163,6 +227,15 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
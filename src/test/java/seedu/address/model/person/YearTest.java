@@ -20,6 +20,11 @@ public class YearTest {
         assertSame(expectedYear, Year.makeYear(""));
     }
 
+    @Test
+    public void factory_equalYears_returnsSameInstance() {
+        assertSame(Year.makeYear("2"), Year.makeYear("2"));
+    }
+
 
     @Test
     public void isValidYear() {
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookLoaderTest {
+
+    private static final int RECORD_COUNT = 3 * AddressBookLoader.BATCH_SIZE;
+    private static final String INVALID_RECORD = "invalid";
+
+    @Test
+    public void toAddressBook_manyRecords_inOriginalOrder() throws Exception {
+        List<String> records = getRecords();
+        AddressBookLoader loader = new AddressBookLoader();
+        loader.addPersons(records, AddressBookLoaderTest::toPerson);
+        loader.addAttendanceEvents(List.of("Tutorial 1", "Tutorial 2"), AttendanceEvent::new);
+
+        AddressBook addressBook = loader.toAddressBook();
+        assertEquals(RECORD_COUNT, addressBook.getPersonList().size());
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            assertEquals(StudentId.fromKey(i), addressBook.getPersonList().get(i).getStudentId());
+        }
+        assertEquals("Tutorial 2", addressBook.getAttendanceEventList().get(1).getEventName());
+    }
+
+    @Test
+    public void addPersons_duplicateBeforeInvalidRecord_duplicateReported() {
+        List<String> records = getRecords();
+        records.set(10, records.get(5));
+        records.set(RECORD_COUNT - 1, INVALID_RECORD);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new AddressBookLoader().addPersons(records, AddressBookLoaderTest::toPerson));
+    }
+
+    @Test
+    public void addPersons_invalidBeforeDuplicateRecord_invalidReported() {
+        List<String> records = getRecords();
+        records.set(3, INVALID_RECORD);
+        records.set(RECORD_COUNT - 1, records.get(5));
+
+        assertThrows(IllegalValueException.class, INVALID_RECORD, () ->
+                new AddressBookLoader().addPersons(records, AddressBookLoaderTest::toPerson));
+    }
+
+    @Test
+    public void addPersons_duplicateAcrossBatches_duplicateReported() throws Exception {
+        AddressBookLoader loader = new AddressBookLoader();
+        loader.addPersons(List.of("0"), AddressBookLoaderTest::toPerson);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                loader.addPersons(List.of("1", "0"), AddressBookLoaderTest::toPerson));
+    }
+
+    @Test
+    public void addAttendanceEvents_sameNameIgnoringCase_duplicateReported() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE_EVENT, () ->
+                new AddressBookLoader().addAttendanceEvents(List.of("Tutorial 1", "TUTORIAL 1"),
+                        AttendanceEvent::new));
+    }
+
+    private static List<String> getRecords() {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(String.valueOf(i));
+        }
+        return records;
+    }
+
+    /**
+     * Converts a record holding the key of a student ID to a person with that student ID.
+     */
+    private static Person toPerson(String record) throws IllegalValueException {
+        if (record.equals(INVALID_RECORD)) {
+            throw new IllegalValueException(INVALID_RECORD);
+        }
+        int key = Integer.parseInt(record);
+        return new PersonBuilder().withName("Student " + key).withStudentId(StudentId.fromKey(key).toString()).build();
+    }
+}
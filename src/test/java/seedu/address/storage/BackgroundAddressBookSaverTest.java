@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new BackgroundAddressBookSaver(new RecordingAddressBookStorage(testFolder), -1));
+    }
+
+    @Test
+    public void save_burstOfChanges_savedOnce() {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS);
+        AddressBook first = new AddressBook();
+        AddressBook latest = getTypicalAddressBook();
+
+        saver.save(first);
+        saver.save(latest);
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+        assertSame(latest, storage.saved.get(0));
+
+        // nothing is waiting to be saved, so flushing again writes nothing
+        saver.shutdown();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void save_storageFails_failureHandlerCalled() {
+        IOException failure = new IOException("dummy IO exception");
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0);
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new AddressBook());
+        saver.shutdown();
+
+        assertEquals(List.of(failure), failures);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books saved to it, rather than writing them.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+
+        RecordingAddressBookStorage(Path folder) {
+            super(folder.resolve("addressbook.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(addressBook);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allFields_lossless() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getRichAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(AddressBookFormat.BINARY, AddressBookFiles.detectFormat(filePath));
+        assertFullyEqual(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_convertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getRichAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        // JSON to binary
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        ReadOnlyAddressBook fromJson = binaryStorage.readAddressBook().get();
+        assertFullyEqual(original, fromJson);
+        binaryStorage.saveAddressBook(fromJson);
+        assertEquals(AddressBookFormat.BINARY, AddressBookFiles.detectFormat(filePath));
+
+        // binary back to JSON
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        ReadOnlyAddressBook fromBinary = jsonStorage.readAddressBook().get();
+        assertFullyEqual(original, fromBinary);
+        jsonStorage.saveAddressBook(fromBinary);
+        assertEquals(AddressBookFormat.JSON, AddressBookFiles.detectFormat(filePath));
+    }
+
+    @Test
+    public void readAddressBook_journaledFile_journalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        journaledStorage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        ReadOnlyAddressBook fromJournal = binaryStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(fromJournal));
+
+        // the binary file holds the journaled changes, so the journal is deleted
+        binaryStorage.saveAddressBook(fromJournal);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_filesAboveMappedReadThreshold_lossless() throws Exception {
+        AddressBook original = getLargeAddressBook();
+
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+        assertTrue(Files.size(binaryPath) >= AddressBookFiles.MAPPED_READ_THRESHOLD);
+        assertEquals(original, AddressBookFiles.read(binaryPath));
+
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+        assertTrue(Files.size(jsonPath) >= AddressBookFiles.MAPPED_READ_THRESHOLD);
+        assertEquals(original, AddressBookFiles.read(jsonPath));
+    }
+
+    @Test
+    public void saveAddressBook_largeFileJustRead_replacesFile() throws Exception {
+        AddressBook original = getLargeAddressBook();
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        // the read must not leave the file locked by a mapping, where that would stop it being replaced
+        original.removePerson(original.getPersonList().get(0));
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_lossless() throws Exception {
+        AddressBook original = getLargeAddressBook();
+
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(binaryPath, true).saveAddressBook(original);
+        assertTrue(AddressBookFiles.isCompressed(binaryPath));
+        assertEquals(AddressBookFormat.BINARY, AddressBookFiles.detectFormat(binaryPath));
+        assertEquals(original, new BinaryAddressBookStorage(binaryPath).readAddressBook().get());
+
+        AddressBook rich = getRichAddressBook();
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonPath, true).saveAddressBook(rich);
+        assertTrue(AddressBookFiles.isCompressed(jsonPath));
+        assertEquals(AddressBookFormat.JSON, AddressBookFiles.detectFormat(jsonPath));
+        assertFullyEqual(rich, new BinaryAddressBookStorage(jsonPath).readAddressBook().get());
+
+        // saving without compression converts the file back
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(rich);
+        assertFalse(AddressBookFiles.isCompressed(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getRichAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookFormat.write(new AddressBook(), out);
+        byte[] bytes = out.toByteArray();
+        bytes[4] = (byte) (BinaryAddressBookFormat.VERSION + 1);
+
+        String expectedMessage = String.format(BinaryAddressBookFormat.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookFormat.VERSION + 1);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                BinaryAddressBookFormat.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void read_notBinary_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, BinaryAddressBookFormat.MESSAGE_NOT_BINARY, () ->
+                BinaryAddressBookFormat.read(new ByteArrayInputStream("{\"persons\": []}".getBytes())));
+    }
+
+    /**
+     * Returns an address book with groups, comments, and attendance records of persons and of a removed student.
+     */
+    private static AddressBook getRichAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withComment("Needs help").build());
+        addressBook.addPerson(HOON);
+        AttendanceEvent event = new AttendanceEvent("Tutorial 1");
+        addressBook.addAttendanceEvent(event);
+        addressBook.addAttendanceEvent(new AttendanceEvent("Tutorial 2"));
+        addressBook.markAttendance(event, ALICE.getStudentId(), true);
+        addressBook.markAttendance(event, BENSON.getStudentId(), false);
+        addressBook.markAttendance(event, HOON.getStudentId(), true);
+        addressBook.removePerson(HOON);
+        return addressBook;
+    }
+
+    /**
+     * Returns an address book whose files are larger than {@link AddressBookFiles#MAPPED_READ_THRESHOLD}.
+     */
+    private static AddressBook getLargeAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        String comment = "x".repeat(1024);
+        for (int i = 0; i < 1100; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i)
+                    .withStudentId(StudentId.fromKey(i).toString()).withComment(comment).build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Asserts that the address books have equal persons, including the fields that {@code Person#equals} ignores,
+     * and equal attendance events.
+     */
+    private static void assertFullyEqual(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            Person expectedPerson = expected.getPersonList().get(i);
+            Person actualPerson = actual.getPersonList().get(i);
+            assertEquals(expectedPerson.getGroups(), actualPerson.getGroups());
+            assertEquals(expectedPerson.getComment(), actualPerson.getComment());
+        }
+        assertEquals(expected.getAttendanceEventList(), actual.getAttendanceEventList());
+        assertTrue(actual.getAttendanceEventList().get(0).getAttendanceRecords()
+                .containsKey(HOON.getStudentId()));
+    }
+}
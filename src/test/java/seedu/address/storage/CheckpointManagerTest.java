@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+
+public class CheckpointManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void restoreLatest_noCheckpoints_emptyResult() throws Exception {
+        assertFalse(new CheckpointManager(testFolder.resolve("missing"), 3).restoreLatest().isPresent());
+    }
+
+    @Test
+    public void writeCheckpoint_manyCheckpoints_newestKeptAndRestored() throws Exception {
+        CheckpointManager manager = new CheckpointManager(testFolder, 3);
+        AddressBook addressBook = getAddressBookWithEvent();
+        for (int i = 0; i < 5; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i)
+                    .withStudentId(StudentId.fromKey(i).toString()).build());
+            manager.writeCheckpoint(addressBook);
+        }
+
+        try (var files = Files.list(testFolder)) {
+            assertEquals(3, files.count());
+        }
+        assertFalse(Files.exists(manager.getCheckpointPath(1)));
+        assertTrue(Files.exists(manager.getCheckpointPath(4)));
+        AddressBook restored = manager.restoreLatest().get();
+        assertEquals(addressBook, restored);
+        assertEquals(addressBook.getAttendanceEventList(), restored.getAttendanceEventList());
+
+        // a new manager continues the numbering
+        new CheckpointManager(testFolder, 3).writeCheckpoint(addressBook);
+        assertTrue(Files.exists(manager.getCheckpointPath(5)));
+    }
+
+    @Test
+    public void writeCheckpoint_unchangedSections_reused() throws Exception {
+        CheckpointManager manager = new CheckpointManager(testFolder, 2);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addAttendanceEvent(new AttendanceEvent("Tutorial 1"));
+        addressBook.addPersons(getStudents(0, 2 * CheckpointManager.PERSONS_PER_SECTION));
+        addressBook.addAttendanceEvent(new AttendanceEvent("Tutorial 2"));
+        assertEquals(0, manager.writeCheckpoint(addressBook));
+        int personSectionCount = countPersonSections(addressBook.getPersonList());
+        assertTrue(personSectionCount > 1);
+
+        // every chunk of persons but the last, which the new person joins, and one event are unchanged
+        addressBook.addPerson(HOON);
+        addressBook.markAttendance(addressBook.getAttendanceEventList().get(0), HOON.getStudentId(), true);
+        assertEquals(personSectionCount - 1 + 1, manager.writeCheckpoint(addressBook));
+        assertEquals(addressBook, manager.restoreLatest().get());
+
+        Person first = addressBook.getPersonList().get(0);
+        addressBook.setPerson(first, new PersonBuilder(first).withComment("Edited").build());
+        assertEquals(personSectionCount - 1 + 2, manager.writeCheckpoint(addressBook));
+        assertEquals(addressBook, manager.restoreLatest().get());
+    }
+
+    @Test
+    public void writeCheckpoint_personInsertedAtFront_laterSectionsReused() throws Exception {
+        CheckpointManager manager = new CheckpointManager(testFolder, 2);
+        AddressBook addressBook = new AddressBook();
+        int personCount = 4 * CheckpointManager.PERSONS_PER_SECTION;
+        List<Person> persons = new ArrayList<>(getStudents(0, personCount));
+        addressBook.setPersons(persons);
+        manager.writeCheckpoint(addressBook);
+        int personSectionCount = countPersonSections(persons);
+        assertTrue(personSectionCount > 2);
+
+        // only the first chunk, which the new person joins, is serialized again
+        Person inserted = getStudents(personCount, personCount + 1).get(0);
+        assertFalse(CheckpointManager.isSectionBoundary(inserted.getStudentId()));
+        persons.add(0, inserted);
+        addressBook.setPersons(persons);
+        assertEquals(personSectionCount - 1, manager.writeCheckpoint(addressBook));
+        assertEquals(addressBook, manager.restoreLatest().get());
+    }
+
+    @Test
+    public void restoreLatest_newestCorrupt_olderRestored() throws Exception {
+        CheckpointManager manager = new CheckpointManager(testFolder, 3);
+        AddressBook older = getAddressBookWithEvent();
+        manager.writeCheckpoint(older);
+        AddressBook newer = getAddressBookWithEvent();
+        newer.addPerson(HOON);
+        manager.writeCheckpoint(newer);
+
+        // flip a byte inside the last section, leaving the file complete
+        Path newest = manager.getCheckpointPath(1);
+        byte[] bytes = Files.readAllBytes(newest);
+        bytes[bytes.length - 10] ^= 1;
+        Files.write(newest, bytes);
+        assertThrows(IOException.class, () -> CheckpointManager.read(newest));
+        assertEquals(older, manager.restoreLatest().get());
+
+        Files.write(newest, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> CheckpointManager.read(newest));
+        assertEquals(older, manager.restoreLatest().get());
+    }
+
+    @Test
+    public void read_notCheckpoint_throwsIoException() throws Exception {
+        Path path = testFolder.resolve("checkpoint-0.abkc");
+        Files.writeString(path, "{\"persons\": []}");
+        assertThrows(IOException.class, CheckpointManager.MESSAGE_NOT_CHECKPOINT, () -> CheckpointManager.read(path));
+    }
+
+    /**
+     * Returns students with the student IDs of the keys from {@code start} to {@code end}, exclusive.
+     */
+    private static List<Person> getStudents(int start, int end) {
+        List<Person> students = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            students.add(new PersonBuilder().withName("Student " + i)
+                    .withStudentId(StudentId.fromKey(i).toString()).build());
+        }
+        return students;
+    }
+
+    /**
+     * Returns the number of sections that {@code persons} are split into.
+     */
+    private static int countPersonSections(List<Person> persons) {
+        int count = 0;
+        int sectionSize = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            sectionSize++;
+            if (i == persons.size() - 1 || sectionSize == CheckpointManager.MAX_PERSONS_PER_SECTION
+                    || CheckpointManager.isSectionBoundary(persons.get(i).getStudentId())) {
+                count++;
+                sectionSize = 0;
+            }
+        }
+        return count;
+    }
+
+    private static AddressBook getAddressBookWithEvent() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AttendanceEvent event = new AttendanceEvent("Tutorial 1");
+        addressBook.addAttendanceEvent(event);
+        addressBook.markAttendance(event, ALICE.getStudentId(), true);
+        return addressBook;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class CheckpointedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_corruptDataFile_restoredFromCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        CheckpointedAddressBookStorage storage =
+                new CheckpointedAddressBookStorage(new JsonAddressBookStorage(filePath), 3, 0);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Files.writeString(filePath, "{\"persons\": [");
+        CheckpointedAddressBookStorage newStorage =
+                new CheckpointedAddressBookStorage(new JsonAddressBookStorage(filePath), 3, 0);
+        assertEquals(original, newStorage.readAddressBook().get());
+
+        // a file at another path is never restored
+        Files.writeString(testFolder.resolve("other.json"), "{\"persons\": [");
+        assertThrows(DataLoadingException.class, () -> newStorage.readAddressBook(testFolder.resolve("other.json")));
+    }
+
+    @Test
+    public void readAddressBook_corruptDataFileWithoutCheckpoints_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{\"persons\": [");
+        CheckpointedAddressBookStorage storage =
+                new CheckpointedAddressBookStorage(new JsonAddressBookStorage(filePath), 3, 0);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_withinInterval_noNewCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        long interval = CheckpointedAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL_MILLIS;
+        CheckpointedAddressBookStorage storage =
+                new CheckpointedAddressBookStorage(new JsonAddressBookStorage(filePath), 3, interval);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Path folder = CheckpointedAddressBookStorage.getCheckpointFolder(filePath);
+        try (var files = Files.list(folder)) {
+            assertEquals(1, files.count());
+        }
+        assertEquals(getTypicalAddressBook(), new CheckpointManager(folder, 3).restoreLatest().get());
+    }
+}
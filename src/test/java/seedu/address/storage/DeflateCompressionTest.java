@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class DeflateCompressionTest {
+
+    private static final byte[] DATA = "{\"persons\": []}".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void writeAndDecompress_writerClosesStream_roundTrips() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DeflateCompression.write(out, stream -> {
+            stream.write(DATA);
+            stream.close();
+        });
+        // the output is left open after the writer closes its stream
+        out.write('!');
+
+        byte[] compressed = out.toByteArray();
+        assertTrue(compressed.length < DATA.length / 10);
+        InputStream in = new ByteArrayInputStream(compressed);
+        assertTrue(DeflateCompression.hasHeader(in));
+        try (InputStream decompressed = DeflateCompression.decompress(in)) {
+            assertTrue(decompressed.markSupported());
+            assertArrayEquals(DATA, decompressed.readAllBytes());
+        }
+    }
+
+    @Test
+    public void hasHeader_uncompressedData_falseAndNothingConsumed() throws Exception {
+        InputStream in = new BufferedInputStream(new ByteArrayInputStream(DATA));
+        assertFalse(DeflateCompression.hasHeader(in));
+        assertArrayEquals(DATA, in.readAllBytes());
+
+        assertFalse(DeflateCompression.hasHeader(new ByteArrayInputStream(new byte[] {'A', 'B'})));
+    }
+
+    @Test
+    public void decompress_unsupportedVersion_throwsIoException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DeflateCompression.write(out, stream -> stream.write(DATA));
+        byte[] compressed = out.toByteArray();
+        compressed[4] = (byte) (DeflateCompression.VERSION + 1);
+
+        String expectedMessage = String.format(DeflateCompression.MESSAGE_UNSUPPORTED_VERSION,
+                DeflateCompression.VERSION + 1);
+        assertThrows(IOException.class, expectedMessage, () ->
+                DeflateCompression.decompress(new ByteArrayInputStream(compressed)));
+    }
+
+    @Test
+    public void decompress_uncompressedData_throwsIoException() {
+        assertThrows(IOException.class, DeflateCompression.MESSAGE_NOT_COMPRESSED, () ->
+                DeflateCompression.decompress(new ByteArrayInputStream(DATA)));
+    }
+
+    @Test
+    public void decompress_truncatedData_throwsIoException() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DeflateCompression.write(out, stream -> stream.write(DATA));
+        byte[] compressed = out.toByteArray();
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        assertThrows(IOException.class, () -> {
+            try (InputStream decompressed = DeflateCompression.decompress(new ByteArrayInputStream(truncated))) {
+                decompressed.readAllBytes();
+            }
+        });
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        AttendanceEvent event = new AttendanceEvent("Tutorial 1");
+        original.addAttendanceEvent(event);
+
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        String checkpoint = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withComment("Needs help").build());
+        original.markAttendance(event, HOON.getStudentId(), true);
+        original.addAttendanceEvent(new AttendanceEvent("Tutorial 2"));
+        storage.saveAddressBook(original);
+
+        // the checkpoint is untouched and each change takes one journal line after the header
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(6, Files.readAllLines(journalFilePath).size());
+
+        // saving without changes writes nothing
+        storage.saveAddressBook(original);
+        assertEquals(6, Files.readAllLines(journalFilePath).size());
+
+        assertReadBackEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_writesCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        assertReadBackEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_writesCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.setPersons(Arrays.asList(ALICE, BENSON));
+        storage.saveAddressBook(original);
+
+        original.setPersons(Arrays.asList(BENSON, ALICE));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(Arrays.asList(BENSON, ALICE), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_compressionChanged_writesCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath,
+                JournaledAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL, true);
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        storage.saveAddressBook(readBack);
+        assertTrue(AddressBookFiles.isCompressed(filePath));
+
+        // later changes to a compressed checkpoint are journaled
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertReadBackEquals(readBack, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"type\":\"putPe".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertReadBackEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        long epoch = AddressBookFiles.readJournalEpoch(filePath).get();
+        String journal = "{\"checkpointEpoch\":" + epoch + "}\n"
+                + "{\"type\":\"removePerson\",\"studentId\":\"invalid\"}\n";
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath), journal.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOfEarlierCheckpoint_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        byte[] staleJournal = Files.readAllBytes(journalFilePath);
+
+        // a newer checkpoint, whose save was interrupted before it deleted the journal
+        original.addPerson(ALICE);
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+        Files.write(journalFilePath, staleJournal);
+
+        JournaledAddressBookStorage newStorage = new JournaledAddressBookStorage(filePath);
+        assertReadBackEquals(original, newStorage.readAddressBook().get());
+
+        // the next save replaces the stale journal with a new checkpoint
+        original.addPerson(HOON);
+        newStorage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertReadBackEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    private static void assertReadBackEquals(AddressBook expected, ReadOnlyAddressBook readBack) {
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(expected.getAttendanceEventList(), readBack.getAttendanceEventList());
+    }
+}
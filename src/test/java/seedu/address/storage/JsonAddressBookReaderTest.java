@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_savedAddressBook_sameAsDeserialized() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        AttendanceEvent event = new AttendanceEvent("Tutorial 1");
+        original.addAttendanceEvent(event);
+        original.markAttendance(event, TypicalPersons.ALICE.getStudentId(), true);
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+
+        AddressBook readBack = JsonAddressBookReader.read(toStream(json));
+        assertEquals(original, readBack);
+        assertEquals(original.getAttendanceEventList(), readBack.getAttendanceEventList());
+    }
+
+    @Test
+    public void read_unknownAndNullFields_ignored() throws Exception {
+        AddressBook readBack = JsonAddressBookReader.read(
+                toStream("{\"version\": {\"major\": [1, 2]}, \"persons\": null}"));
+        assertTrue(readBack.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void read_notAnObject_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_NOT_AN_OBJECT, () ->
+                JsonAddressBookReader.read(toStream("[]")));
+    }
+
+    @Test
+    public void read_personsNotAnArray_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(JsonAddressBookReader.MESSAGE_NOT_AN_ARRAY,
+                "persons"), () -> JsonAddressBookReader.read(toStream("{\"persons\": {}}")));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(toStream("{\"persons\": [")));
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,250 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.attendance.exceptions.AttendanceLoadingException;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getAddressBookWithEvents();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(original.getAttendanceEventList(), readBack.getAttendanceEventList());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_oneEventMarked_onlyThatShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path folder = ShardedAddressBookStorage.getShardFolder(filePath);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getAddressBookWithEvents();
+        storage.saveAddressBook(original);
+
+        // shards that are rewritten would reappear
+        Files.delete(folder.resolve(ShardedAddressBookStorage.PERSONS_FILE_NAME));
+        Files.delete(folder.resolve("event-1.json"));
+        String manifest = Files.readString(folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME));
+        String markedEvent = Files.readString(folder.resolve("event-0.json"));
+
+        original.markAttendance(original.getAttendanceEventList().get(0), BENSON.getStudentId(), true);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(folder.resolve(ShardedAddressBookStorage.PERSONS_FILE_NAME)));
+        assertFalse(Files.exists(folder.resolve("event-1.json")));
+        assertEquals(manifest, Files.readString(folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+        assertNotEquals(markedEvent, Files.readString(folder.resolve("event-0.json")));
+    }
+
+    @Test
+    public void saveAddressBook_eventsAddedAndRemoved_manifestAndFilesUpdated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path folder = ShardedAddressBookStorage.getShardFolder(filePath);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getAddressBookWithEvents();
+        storage.saveAddressBook(original);
+
+        original.removeAttendanceEvent(original.getAttendanceEventList().get(0));
+        original.addAttendanceEvent(new AttendanceEvent("Tutorial 3"));
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(folder.resolve("event-0.json")));
+        assertTrue(Files.exists(folder.resolve("event-2.json")));
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(original.getAttendanceEventList(), readBack.getAttendanceEventList());
+    }
+
+    @Test
+    public void readAddressBook_jsonDataFile_convertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getAddressBookWithEvents();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        ReadOnlyAddressBook fromJson = storage.readAddressBook().get();
+        assertEquals(original.getAttendanceEventList(), fromJson.getAttendanceEventList());
+        storage.saveAddressBook(fromJson);
+
+        Path folder = ShardedAddressBookStorage.getShardFolder(filePath);
+        assertTrue(Files.exists(folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+        assertEquals(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_switchedToJsonAndBack_latestDataRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getAddressBookWithEvents();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(shardedStorage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        shardedStorage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(filePath));
+
+        // the JSON storage reads the shards instead of the data file they replaced
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        AddressBook fromShards = new AddressBook(jsonStorage.readAddressBook().get());
+        assertEquals(addressBook, fromShards);
+        assertEquals(addressBook.getAttendanceEventList(), fromShards.getAttendanceEventList());
+
+        // and the sharded storage reads the data file written after the shards
+        fromShards.removePerson(HOON);
+        jsonStorage.saveAddressBook(fromShards);
+        assertEquals(fromShards, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherFormatAfterShards_shardsRetired() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithEvents());
+        Path manifestPath = ShardedAddressBookStorage.getShardFolder(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(manifestPath));
+
+        // the shards are stale, so are not read in place of a data file that goes missing
+        Files.delete(filePath);
+        assertFalse(new JsonAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_shardSaveInterruptedBeforeDeletingDataFile_readsShards() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] replacedDataFile = Files.readAllBytes(filePath);
+        AddressBook original = getAddressBookWithEvents();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        // the data file the shards replaced, as left by a save that stopped after writing the manifest
+        Files.write(filePath, replacedDataFile);
+
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_otherSaveInterruptedBeforeRetiringShards_readsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithEvents());
+
+        // a newer data file, as left by a save of another format that stopped before deleting the manifest
+        AddressBook newer = getTypicalAddressBook();
+        newer.addPerson(HOON);
+        Path manifestPath = ShardedAddressBookStorage.getShardFolder(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        byte[] manifest = Files.readAllBytes(manifestPath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(newer);
+        Files.write(manifestPath, manifest);
+
+        assertEquals(newer, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(newer, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(newer, new ShardedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_emptyEventFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithEvents());
+        Files.write(ShardedAddressBookStorage.getShardFolder(filePath).resolve("event-1.json"), new byte[0]);
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_eventsWithShards_loadedWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getAddressBookWithEvents();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        AttendanceEvent first = readBack.getAttendanceEventList().get(0);
+        assertFalse(first.isLoaded());
+        assertTrue(first.isStudentPresent(ALICE.getStudentId()));
+        assertTrue(first.isLoaded());
+        assertFalse(readBack.getAttendanceEventList().get(1).isLoaded());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecordInEventFile_throwsWhenLoaded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getAddressBookWithEvents());
+        Files.writeString(ShardedAddressBookStorage.getShardFolder(filePath).resolve("event-1.json"),
+                "{\"eventName\": \"Tutorial 2\", \"attendanceRecords\": [{\"studentId\": \"invalid\"}]}");
+
+        AttendanceEvent second = new ShardedAddressBookStorage(filePath).readAddressBook().get()
+                .getAttendanceEventList().get(1);
+        assertThrows(AttendanceLoadingException.class, () -> second.isStudentPresent(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void readAddressBook_manifestListsFileOutsideFolder_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path manifestPath = ShardedAddressBookStorage.getShardFolder(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        Files.createDirectories(manifestPath.getParent());
+        Files.writeString(manifestPath, "{\"version\": 1, \"attendanceEventFiles\": [\"../event-0.json\"]}");
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void getAttendanceEventFiles_unsupportedVersion_throwsIllegalValueException() {
+        JsonShardManifest manifest = new JsonShardManifest(JsonShardManifest.VERSION + 1, List.of(), 0, null);
+        String expectedMessage = String.format(JsonShardManifest.MESSAGE_UNSUPPORTED_VERSION,
+                JsonShardManifest.VERSION + 1);
+        assertThrows(IllegalValueException.class, expectedMessage,
+                manifest::getAttendanceEventFiles);
+    }
+
+    private static AddressBook getAddressBookWithEvents() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AttendanceEvent first = new AttendanceEvent("Tutorial 1");
+        AttendanceEvent second = new AttendanceEvent("Tutorial 2");
+        addressBook.addAttendanceEvent(first);
+        addressBook.addAttendanceEvent(second);
+        addressBook.markAttendance(first, ALICE.getStudentId(), true);
+        addressBook.markAttendance(second, ALICE.getStudentId(), false);
+        return addressBook;
+    }
+}
@@ -1,18 +1,27 @@
 package seedu.address.stubs.delete;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.Model;
+import seedu.address.model.MutableAddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.attendance.AttendanceEvent;
+import seedu.address.model.attendance.AttendanceStatusPredicate;
+import seedu.address.model.attendance.StudentOrdinals;
+import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 
@@ -107,6 +116,26 @@ public class ModelManagerStub implements Model {
         return null;
     }
 
+    /**
+     * Returns {@code null} as a stub for the address book snapshot.
+     *
+     * @return {@code null}.
+     */
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return null;
+    }
+
+    /**
+     * Returns {@code 0} as a stub for the address book generation.
+     *
+     * @return {@code 0}.
+     */
+    @Override
+    public long getAddressBookGeneration() {
+        return 0;
+    }
+
     /**
      * Always returns {@code false} as this is a stub implementation.
      *
@@ -118,6 +147,49 @@ public class ModelManagerStub implements Model {
         return false;
     }
 
+    /**
+     * Returns an empty {@code Optional} as this is a stub implementation.
+     *
+     * @param studentId The student ID to look up.
+     * @return {@code Optional.empty()}.
+     */
+    @Override
+    public Optional<Person> findByStudentId(StudentId studentId) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an empty set as this is a stub implementation.
+     *
+     * @param keywords The name keywords to look up.
+     * @return An empty set.
+     */
+    @Override
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns an empty set as this is a stub implementation.
+     *
+     * @param keywords The group keywords to look up.
+     * @return An empty set.
+     */
+    @Override
+    public Set<Person> getPersonsInGroupsMatching(Collection<String> keywords) {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns an empty map as this is a stub implementation.
+     *
+     * @return An empty map.
+     */
+    @Override
+    public Map<Group, Integer> getGroupMemberCounts() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Does nothing. This method is a no-op for testing purposes.
      *
@@ -138,6 +210,26 @@ public class ModelManagerStub implements Model {
         // No actions performed
     }
 
+    /**
+     * Does nothing. This method is a no-op for testing purposes.
+     *
+     * @param persons The persons to add.
+     */
+    @Override
+    public void addPersons(List<Person> persons) {
+        // No actions performed
+    }
+
+    /**
+     * Does nothing. This method is a no-op for testing purposes.
+     *
+     * @param changes The changes to apply.
+     */
+    @Override
+    public void applyBatch(Consumer<? super MutableAddressBook> changes) {
+        // No actions performed
+    }
+
     /**
      * Does nothing. This method is a no-op for testing purposes.
      *
@@ -195,8 +287,8 @@ public class ModelManagerStub implements Model {
     }
 
     @Override
-    public List<Person> getStudentsByAttendance(String eventName, boolean isPresent) {
-        return Collections.emptyList();
+    public AttendanceStatusPredicate getAttendancePredicate(String eventName, boolean isPresent) {
+        return new AttendanceStatusPredicate(new StudentOrdinals(), new BitSet());
     }
 
     @Override
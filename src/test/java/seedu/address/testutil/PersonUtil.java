@@ -30,7 +30,7 @@ public class PersonUtil {
     public static String getPersonDetails(Person person) {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_NAME + person.getName().fullName + " ");
-        sb.append(PREFIX_STUDENTID + person.getStudentId().value + " ");
+        sb.append(PREFIX_STUDENTID + person.getStudentId().getValue() + " ");
         sb.append(PREFIX_NETID + person.getEmail().value.substring(0, 8) + " ");
         sb.append(PREFIX_MAJOR + person.getMajor().value + " ");
         sb.append(PREFIX_YEAR + person.getYear().value + " ");
@@ -46,7 +46,7 @@ public class PersonUtil {
     public static String getEditPersonDescriptorDetails(EditPersonDescriptor descriptor) {
         StringBuilder sb = new StringBuilder();
         descriptor.getName().ifPresent(name -> sb.append(PREFIX_NAME).append(name.fullName).append(" "));
-        descriptor.getStudentId().ifPresent(phone -> sb.append(PREFIX_STUDENTID).append(phone.value).append(" "));
+        descriptor.getStudentId().ifPresent(phone -> sb.append(PREFIX_STUDENTID).append(phone.getValue()).append(" "));
         descriptor.getEmail().ifPresent(email -> sb.append(PREFIX_NETID)
                 .append(email.value, 0, 8).append(" "));
         descriptor.getMajor().ifPresent(address -> sb.append(PREFIX_MAJOR).append(address.value).append(" "));